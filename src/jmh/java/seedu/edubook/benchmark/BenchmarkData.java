@@ -0,0 +1,67 @@
+package seedu.edubook.benchmark;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.edubook.model.AddressBook;
+import seedu.edubook.model.assignment.Assignment;
+import seedu.edubook.model.assignment.AssignmentName;
+import seedu.edubook.model.person.Email;
+import seedu.edubook.model.person.Person;
+import seedu.edubook.model.person.PersonName;
+import seedu.edubook.model.person.Phone;
+import seedu.edubook.model.person.TuitionClass;
+import seedu.edubook.model.tag.Tag;
+
+/**
+ * Builds the rosters that benchmarks run against.
+ * Students are spread evenly over {@code CLASS_COUNT} classes, and each holds {@code ASSIGNMENTS_PER_STUDENT} of
+ * {@code ASSIGNMENT_COUNT} assignments.
+ */
+public class BenchmarkData {
+
+    public static final int CLASS_COUNT = 50;
+    public static final int ASSIGNMENT_COUNT = 40;
+    public static final int ASSIGNMENTS_PER_STUDENT = 4;
+
+    /**
+     * Returns the {@code index}-th student of a roster. Students with different indices have different names.
+     */
+    public static Person createPerson(int index) {
+        Set<Tag> tags = new HashSet<>();
+        tags.add(new Tag("Cohort " + (index % 7)));
+
+        Set<Assignment> assignments = new HashSet<>();
+        for (int i = 0; i < ASSIGNMENTS_PER_STUDENT; i++) {
+            assignments.add(new Assignment(getAssignmentName(index + i), i % 2 == 0));
+        }
+
+        return new Person(new PersonName("Student " + index), new Phone("9" + (1000000 + index)),
+                new Email("student" + index + "@example.com"), getTuitionClass(index), tags, assignments);
+    }
+
+    /**
+     * Returns an address book holding the first {@code size} students.
+     */
+    public static AddressBook createAddressBook(int size) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            addressBook.addPerson(createPerson(i));
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the {@code index}-th class, wrapping around after {@code CLASS_COUNT} classes.
+     */
+    public static TuitionClass getTuitionClass(int index) {
+        return new TuitionClass("Class " + (index % CLASS_COUNT));
+    }
+
+    /**
+     * Returns the {@code index}-th assignment name, wrapping around after {@code ASSIGNMENT_COUNT} assignments.
+     */
+    public static AssignmentName getAssignmentName(int index) {
+        return new AssignmentName("Homework " + (index % ASSIGNMENT_COUNT));
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.edubook.logic.commands;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.edubook.logic.commands.exceptions.CommandException;
+import seedu.edubook.model.AddressBook;
+import seedu.edubook.model.ModelManager;
+import seedu.edubook.model.UserPrefs;
+import seedu.edubook.model.assignment.Assignment;
+import seedu.edubook.model.assignment.AssignmentName;
+import seedu.edubook.model.person.Email;
+import seedu.edubook.model.person.Person;
+import seedu.edubook.model.person.PersonName;
+import seedu.edubook.model.person.Phone;
+import seedu.edubook.model.person.TuitionClass;
+import seedu.edubook.model.target.AssignmentTarget;
+
+/**
+ * Benchmarks viewing the students with an assignment, and reading every student's assignments.
+ *
+ * <p>Run with {@code ./gradlew jmh}. The {@code gc} profiler is enabled in {@code build.gradle}, so each result is
+ * followed by {@code gc.alloc.rate.norm}, the bytes allocated per operation. For {@link #readAssignments(Blackhole)}
+ * this should be a small view and iterator per student plus one {@code Assignment} per assignment read, as the
+ * read-only set of a student's assignments is a view over its bitsets rather than a stored copy.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ViewCommandBenchmark {
+
+    private static final int ASSIGNMENTS_PER_STUDENT = 8;
+    private static final int ASSIGNMENT_COUNT = 40;
+
+    @Param({"1000", "10000", "50000"})
+    private int rosterSize;
+
+    private ModelManager model;
+    private ViewCommand viewCommand;
+
+    /**
+     * Builds a roster where each student holds {@code ASSIGNMENTS_PER_STUDENT} of {@code ASSIGNMENT_COUNT}
+     * assignments, some of them done.
+     */
+    @Setup
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < rosterSize; i++) {
+            Set<Assignment> assignments = new HashSet<>();
+            for (int j = 0; j < ASSIGNMENTS_PER_STUDENT; j++) {
+                AssignmentName assignmentName = new AssignmentName("Homework " + ((i + j) % ASSIGNMENT_COUNT));
+                assignments.add(new Assignment(assignmentName, j % 3 == 0));
+            }
+            addressBook.addPerson(new Person(new PersonName("Student " + i), new Phone("9" + (1000000 + i)),
+                    new Email("student" + i + "@example.com"), new TuitionClass("Class " + (i % 50)),
+                    new HashSet<>(), assignments));
+        }
+        model = new ModelManager(addressBook, new UserPrefs());
+        viewCommand = new ViewCommand(new AssignmentTarget(new AssignmentName("Homework 0")));
+    }
+
+    /**
+     * Filters the displayed list down to the students with one assignment.
+     */
+    @Benchmark
+    public CommandResult viewByAssignment() throws CommandException {
+        return viewCommand.execute(model);
+    }
+
+    /**
+     * Reads the assignments of every student, as the list panel and storage do.
+     */
+    @Benchmark
+    public void readAssignments(Blackhole blackhole) {
+        for (Person person : model.getAddressBook().getPersonList()) {
+            for (Assignment assignment : person.getAssignments()) {
+                blackhole.consume(assignment.isDone());
+            }
+        }
+    }
+}
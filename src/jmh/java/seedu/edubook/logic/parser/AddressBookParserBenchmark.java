@@ -0,0 +1,99 @@
+package seedu.edubook.logic.parser;
+
+import static seedu.edubook.logic.parser.CliSyntax.PREFIX_ASSIGNMENT_NAME;
+import static seedu.edubook.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.edubook.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.edubook.logic.parser.CliSyntax.PREFIX_LABEL;
+import static seedu.edubook.logic.parser.CliSyntax.PREFIX_PERSON_NAME;
+import static seedu.edubook.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.edubook.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.edubook.logic.commands.AddCommand;
+import seedu.edubook.logic.commands.Command;
+import seedu.edubook.logic.commands.MarkCommand;
+import seedu.edubook.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks parsing user input into commands, and tokenizing the arguments of a command.
+ * Parsing does not depend on the roster, so the benchmarks are parameterized by {@code tagCount}, the number of
+ * tags in an {@code add} command, which is what makes an input long.
+ *
+ * <p>Run with {@code ./gradlew jmh}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AddressBookParserBenchmark {
+
+    private static final Prefix[] ADD_PREFIXES = {
+        PREFIX_PERSON_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_CLASS, PREFIX_TAG, PREFIX_LABEL
+    };
+
+    @Param({"0", "10", "100"})
+    private int tagCount;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private String addArguments;
+    private String addInput;
+    private String markInput;
+
+    /**
+     * Builds the inputs to parse.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder arguments = new StringBuilder()
+                .append(" ").append(PREFIX_PERSON_NAME).append("John Doe")
+                .append(" ").append(PREFIX_PHONE).append("98765432")
+                .append(" ").append(PREFIX_EMAIL).append("johnd@example.com")
+                .append(" ").append(PREFIX_CLASS).append("Class 1-B");
+        for (int i = 0; i < tagCount; i++) {
+            arguments.append(" ").append(PREFIX_TAG).append("Tag ").append(i);
+        }
+        addArguments = arguments.toString();
+        addInput = AddCommand.COMMAND_WORD + addArguments;
+        markInput = MarkCommand.COMMAND_WORD + " " + PREFIX_ASSIGNMENT_NAME + "Tutorial 6 "
+                + PREFIX_CLASS + "Class 1-B";
+    }
+
+    /**
+     * Parses an {@code add} command with {@code tagCount} tags.
+     */
+    @Benchmark
+    public Command parseAddCommand() throws ParseException {
+        return parser.parseCommand(addInput);
+    }
+
+    /**
+     * Parses a {@code mark} command targeting a class.
+     */
+    @Benchmark
+    public Command parseMarkCommand() throws ParseException {
+        return parser.parseCommand(markInput);
+    }
+
+    /**
+     * Tokenizes the arguments of an {@code add} command with {@code tagCount} tags.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(addArguments, ADD_PREFIXES);
+    }
+}
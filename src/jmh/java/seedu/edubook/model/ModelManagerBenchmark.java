@@ -0,0 +1,69 @@
+package seedu.edubook.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.edubook.benchmark.BenchmarkData;
+import seedu.edubook.model.assignment.AssignmentName;
+import seedu.edubook.model.person.Person;
+import seedu.edubook.model.person.TuitionClass;
+
+/**
+ * Benchmarks the lookups that commands targeting a class or an assignment go through.
+ *
+ * <p>Run with {@code ./gradlew jmh}. The time should grow with the number of matching persons, which is
+ * {@code rosterSize / CLASS_COUNT} for a class, rather than with {@code rosterSize} itself.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ModelManagerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rosterSize;
+
+    private ModelManager model;
+    private TuitionClass tuitionClass;
+    private AssignmentName assignmentName;
+
+    /**
+     * Builds a model holding a roster of {@code rosterSize} persons.
+     */
+    @Setup
+    public void setUp() {
+        model = new ModelManager(BenchmarkData.createAddressBook(rosterSize), new UserPrefs());
+        tuitionClass = BenchmarkData.getTuitionClass(0);
+        assignmentName = BenchmarkData.getAssignmentName(0);
+    }
+
+    /**
+     * Finds the persons in one class.
+     */
+    @Benchmark
+    public List<Person> findPersonsByClass() {
+        return model.findPersonsByClass(tuitionClass);
+    }
+
+    /**
+     * Finds the persons holding one assignment.
+     */
+    @Benchmark
+    public List<Person> findPersonsByAssignmentName() {
+        return model.findPersonsByAssignmentName(assignmentName);
+    }
+}
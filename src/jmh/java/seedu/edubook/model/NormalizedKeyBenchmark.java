@@ -0,0 +1,101 @@
+package seedu.edubook.model;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.edubook.benchmark.BenchmarkData;
+import seedu.edubook.model.person.Person;
+import seedu.edubook.model.person.TuitionClass;
+import seedu.edubook.model.person.UniquePersonList;
+import seedu.edubook.model.tag.Tag;
+
+/**
+ * Benchmarks lookups keyed by case-insensitive values, with probes that are equal to, but not the same instances
+ * as, the values in the roster, as is the case for values parsed from a command.
+ *
+ * <p>Run with {@code ./gradlew jmh}, which reports {@code gc.alloc.rate.norm}. Apart from the copy of the result in
+ * {@link #findPersonsByClass()}, the lookups should allocate nothing, as the case-folded keys and their hash codes
+ * are computed once when each value is created.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class NormalizedKeyBenchmark {
+
+    @Param({"1000", "100000"})
+    private int rosterSize;
+
+    private UniquePersonList uniquePersonList;
+    private ModelManager model;
+    private Set<Tag> tags;
+    private Person personProbe;
+    private TuitionClass tuitionClass;
+    private TuitionClass tuitionClassProbe;
+    private Tag tagProbe;
+
+    /**
+     * Builds a roster of {@code rosterSize} persons, and probes that differ from its values only in case.
+     */
+    @Setup
+    public void setUp() {
+        AddressBook addressBook = BenchmarkData.createAddressBook(rosterSize);
+        uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(addressBook.getPersonList());
+        model = new ModelManager(addressBook, new UserPrefs());
+        tags = new HashSet<>(BenchmarkData.createPerson(0).getTags());
+
+        personProbe = BenchmarkData.createPerson(rosterSize / 2);
+        tuitionClass = BenchmarkData.getTuitionClass(0);
+        tuitionClassProbe = new TuitionClass(tuitionClass.value.toUpperCase());
+        tagProbe = new Tag(tags.iterator().next().tagName.toUpperCase());
+    }
+
+    /**
+     * Checks for a person by name, going through {@code Name#hashCode} and {@code Name#equals}.
+     */
+    @Benchmark
+    public boolean contains() {
+        return uniquePersonList.contains(personProbe);
+    }
+
+    /**
+     * Finds the persons in one class, going through {@code TuitionClass#hashCode} and {@code TuitionClass#equals}.
+     */
+    @Benchmark
+    public List<Person> findPersonsByClass() {
+        return model.findPersonsByClass(tuitionClassProbe);
+    }
+
+    /**
+     * Checks a person's tags for a tag, going through {@code Tag#hashCode} and {@code Tag#equals}.
+     */
+    @Benchmark
+    public boolean containsTag() {
+        return tags.contains(tagProbe);
+    }
+
+    /**
+     * Compares two equal classes directly.
+     */
+    @Benchmark
+    public boolean tuitionClassEquals() {
+        return tuitionClassProbe.equals(tuitionClass);
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.edubook.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.edubook.benchmark.BenchmarkData;
+import seedu.edubook.model.person.Person;
+import seedu.edubook.model.person.Phone;
+
+/**
+ * Benchmarks the memory that the undo/redo history keeps for each command.
+ *
+ * <p>Run with {@code ./gradlew jmh}, and compare {@code gc.alloc.rate.norm} from the gc profiler. It bounds the
+ * memory kept for each state in the history: {@code editAndCommit} edits one student and commits the new state, which
+ * shares all but {@code O(log n)} nodes with the previous state, while {@code copyAddressBook} copies the whole
+ * roster, as a history of full copies would for every command.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class VersionedAddressBookBenchmark {
+
+    private static final int EDITED_COUNT = 1000;
+
+    @Param({"50000"})
+    private int rosterSize;
+
+    private VersionedAddressBook addressBook;
+    private Person[] currentPersons;
+    private Person[] otherPersons;
+    private int cursor;
+
+    /**
+     * Builds an address book holding a roster of {@code rosterSize} persons, and an edited copy of some of them.
+     */
+    @Setup
+    public void setUp() {
+        addressBook = new VersionedAddressBook(BenchmarkData.createAddressBook(rosterSize),
+                VersionedAddressBook.DEFAULT_HISTORY_DEPTH);
+        currentPersons = new Person[EDITED_COUNT];
+        otherPersons = new Person[EDITED_COUNT];
+        for (int i = 0; i < EDITED_COUNT; i++) {
+            Person person = addressBook.getPersonList().get(i * (rosterSize / EDITED_COUNT));
+            currentPersons[i] = person;
+            otherPersons[i] = new Person(person.getName(), new Phone("8" + (1000000 + i)), person.getEmail(),
+                    person.getTuitionClass(), person.getTags(), person.getAssignments(), person.getLabel());
+        }
+    }
+
+    /**
+     * Edits one student and commits the new state to the history.
+     */
+    @Benchmark
+    public void editAndCommit() {
+        int i = cursor;
+        cursor = (cursor + 1) % EDITED_COUNT;
+
+        Person target = currentPersons[i];
+        addressBook.setPerson(target, otherPersons[i]);
+        currentPersons[i] = otherPersons[i];
+        otherPersons[i] = target;
+        addressBook.commit();
+    }
+
+    /**
+     * Copies the whole address book, as keeping a full copy of each state would.
+     */
+    @Benchmark
+    public AddressBook copyAddressBook() {
+        return new AddressBook(addressBook);
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.edubook.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.edubook.benchmark.BenchmarkData;
+
+/**
+ * Benchmarks the operations of {@code UniquePersonList} on a roster of {@code rosterSize} persons.
+ * {@link #setPersons()} is the path taken by {@code AddressBook#resetData} on startup.
+ *
+ * <p>Run with {@code ./gradlew jmh}. Only {@link #setPersons()} should grow with {@code rosterSize}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rosterSize;
+
+    private List<Person> persons;
+    private UniquePersonList uniquePersonList;
+    private Person existingPerson;
+    private Person newPerson;
+
+    /**
+     * Builds a roster of {@code rosterSize} persons with distinct names, and a list holding all of them.
+     */
+    @Setup
+    public void setUp() {
+        persons = new ArrayList<>(rosterSize);
+        for (int i = 0; i < rosterSize; i++) {
+            persons.add(BenchmarkData.createPerson(i));
+        }
+        uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(persons);
+        existingPerson = persons.get(rosterSize / 2);
+        newPerson = BenchmarkData.createPerson(rosterSize);
+    }
+
+    /**
+     * Replaces the contents of the list with the whole roster, including the uniqueness check.
+     */
+    @Benchmark
+    public UniquePersonList setPersons() {
+        uniquePersonList.setPersons(persons);
+        return uniquePersonList;
+    }
+
+    /**
+     * Adds a person to the full list, then removes it again so that every invocation sees the same list.
+     */
+    @Benchmark
+    public UniquePersonList addAndRemove() {
+        uniquePersonList.add(newPerson);
+        uniquePersonList.remove(newPerson);
+        return uniquePersonList;
+    }
+
+    /**
+     * Checks for a person in the middle of the list.
+     */
+    @Benchmark
+    public boolean contains() {
+        return uniquePersonList.contains(existingPerson);
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.edubook.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.edubook.commons.exceptions.IllegalValueException;
+import seedu.edubook.model.assignment.Assignment;
+import seedu.edubook.model.commons.Name;
+import seedu.edubook.model.label.Label;
+import seedu.edubook.model.person.Email;
+import seedu.edubook.model.person.Phone;
+import seedu.edubook.model.person.TuitionClass;
+import seedu.edubook.model.tag.Tag;
+
+/**
+ * Benchmarks converting the persons of a 50,000-person data file into the model, which validates every field.
+ *
+ * <p>{@link #toModelType(Blackhole)} measures the conversion as done on startup. {@link #validateWithRegex(Blackhole)}
+ * runs only the validation of the same fields through {@code String#matches}, which compiles each pattern on every
+ * call, as a baseline for the cost the precompiled and hand-written validators remove.</p>
+ *
+ * <p>Run with {@code ./gradlew jmh}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JsonAdaptedPersonBenchmark {
+
+    private static final int ROSTER_SIZE = 50_000;
+
+    private List<JsonAdaptedPerson> persons;
+
+    /**
+     * Builds the adapted persons as they would be after Jackson has read them from the file.
+     */
+    @Setup
+    public void setUp() {
+        persons = new ArrayList<>(ROSTER_SIZE);
+        for (int i = 0; i < ROSTER_SIZE; i++) {
+            List<JsonAdaptedTag> tags = List.of(new JsonAdaptedTag("Cohort " + (i % 7)));
+            List<JsonAdaptedAssignment> assignments = List.of(
+                    new JsonAdaptedAssignment("Homework " + (i % 10), i % 2 == 0),
+                    new JsonAdaptedAssignment("Tutorial " + (i % 13), false));
+            persons.add(new JsonAdaptedPerson("Student " + i, "9" + (1000000 + i), "student" + i + "@example.com",
+                    "Class " + (i % 50), tags, assignments, i % 3 == 0 ? "" : "Top " + (i % 5)));
+        }
+    }
+
+    /**
+     * Converts every adapted person into the model.
+     */
+    @Benchmark
+    public void toModelType(Blackhole blackhole) throws IllegalValueException {
+        for (JsonAdaptedPerson person : persons) {
+            blackhole.consume(person.toModelType());
+        }
+    }
+
+    /**
+     * Validates the same field values with {@code String#matches}, as the model did before validation moved to
+     * {@code ValidationUtil}.
+     */
+    @Benchmark
+    public void validateWithRegex(Blackhole blackhole) {
+        for (int i = 0; i < ROSTER_SIZE; i++) {
+            blackhole.consume(("Student " + i).matches(Name.VALIDATION_REGEX));
+            blackhole.consume(("9" + (1000000 + i)).matches(Phone.VALIDATION_REGEX));
+            blackhole.consume(("student" + i + "@example.com").matches(Email.VALIDATION_REGEX));
+            blackhole.consume(("Class " + (i % 50)).matches(TuitionClass.VALIDATION_REGEX));
+            blackhole.consume(("Cohort " + (i % 7)).matches(Tag.VALIDATION_REGEX));
+            blackhole.consume(("Homework " + (i % 10)).matches(Assignment.VALIDATION_REGEX));
+            blackhole.consume(("Tutorial " + (i % 13)).matches(Assignment.VALIDATION_REGEX));
+            blackhole.consume(("Top " + (i % 5)).matches(Label.VALIDATION_REGEX));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.edubook.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.edubook.commons.exceptions.DataLoadingException;
+import seedu.edubook.model.AddressBook;
+import seedu.edubook.model.ReadOnlyAddressBook;
+import seedu.edubook.model.util.SyntheticDataGenerator;
+
+/**
+ * Benchmarks reading and saving the data file, as done on startup and after every command that modifies data.
+ *
+ * <p>Run with {@code ./gradlew jmh}. The time should grow linearly with {@code rosterSize}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    private int rosterSize;
+
+    private Path tempFolder;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage readStorage;
+    private JsonAddressBookStorage saveStorage;
+
+    /**
+     * Writes a data file holding a synthetic roster of {@code rosterSize} students to read from.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        tempFolder = Files.createTempDirectory("edubook-benchmark");
+        addressBook = new SyntheticDataGenerator().withStudentCount(rosterSize).generate();
+        readStorage = new JsonAddressBookStorage(tempFolder.resolve("read.json"));
+        readStorage.saveAddressBook(addressBook);
+        saveStorage = new JsonAddressBookStorage(tempFolder.resolve("save.json"));
+    }
+
+    /**
+     * Deletes the data files.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(readStorage.getAddressBookFilePath());
+        Files.deleteIfExists(saveStorage.getAddressBookFilePath());
+        Files.deleteIfExists(tempFolder);
+    }
+
+    /**
+     * Reads the whole data file into the model.
+     */
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readStorage.readAddressBook();
+    }
+
+    /**
+     * Saves the whole roster to a data file.
+     */
+    @Benchmark
+    public void saveAddressBook() throws IOException {
+        saveStorage.saveAddressBook(addressBook);
+    }
+}
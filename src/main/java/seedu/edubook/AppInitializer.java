@@ -0,0 +1,141 @@
+package seedu.edubook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.edubook.commons.core.Config;
+import seedu.edubook.commons.core.LogsCenter;
+import seedu.edubook.commons.exceptions.DataLoadingException;
+import seedu.edubook.commons.util.ConfigUtil;
+import seedu.edubook.commons.util.StringUtil;
+import seedu.edubook.model.ReadOnlyAddressBook;
+import seedu.edubook.model.ReadOnlyUserPrefs;
+import seedu.edubook.model.UserPrefs;
+import seedu.edubook.storage.AddressBookStorage;
+import seedu.edubook.storage.JournaledAddressBookStorage;
+import seedu.edubook.storage.JsonAddressBookStorage;
+import seedu.edubook.storage.UserPrefsStorage;
+
+/**
+ * Contains the steps of starting the application that do not involve the GUI, shared by {@link MainApp} and
+ * {@link HeadlessApp}.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    public static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns the storage for the address book file in {@code userPrefs}, which journals changes instead of
+     * rewriting the whole file on every save if enabled in {@code config}.
+     * Saves follow the durability policy and keep the number of backups in {@code config}.
+     * A compaction threshold that is not positive is replaced by the default one.
+     */
+    public static AddressBookStorage initAddressBookStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        int backupCount = Math.max(config.getBackupCount(), 0);
+        if (config.isJournalEnabled()) {
+            int compactionThreshold = config.getJournalCompactionThreshold();
+            if (compactionThreshold <= 0) {
+                logger.warning("Journal compaction threshold " + compactionThreshold + " is not positive."
+                        + " Using default threshold of " + Config.DEFAULT_JOURNAL_COMPACTION_THRESHOLD + ".");
+                compactionThreshold = Config.DEFAULT_JOURNAL_COMPACTION_THRESHOLD;
+            }
+            logger.info("Journaling changes with compaction every " + compactionThreshold + " entries");
+            return new JournaledAddressBookStorage(userPrefs.getAddressBookFilePath(), compactionThreshold,
+                    config.getDurabilityPolicy(), backupCount);
+        }
+        return new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(), config.getDurabilityPolicy(),
+                backupCount);
+    }
+
+    /**
+     * Returns the data in the newest backup of {@code storage}'s data file that can be read,
+     * or {@code Optional.empty()} if there is none.
+     */
+    public static Optional<ReadOnlyAddressBook> readNewestBackup(AddressBookStorage storage) {
+        for (Path backupFilePath : storage.getBackupFilePaths()) {
+            try {
+                Optional<ReadOnlyAddressBook> backup = storage.readAddressBook(backupFilePath);
+                if (backup.isPresent()) {
+                    logger.warning("Recovered data from backup " + backupFilePath);
+                    return backup;
+                }
+            } catch (DataLoadingException e) {
+                logger.warning("Backup at " + backupFilePath + " could not be loaded either.");
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -2,9 +2,12 @@ package seedu.edubook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javafx.application.Application;
 import seedu.edubook.commons.core.LogsCenter;
@@ -13,11 +16,22 @@ import seedu.edubook.commons.util.ToStringBuilder;
 
 /**
  * Represents the parsed command-line parameters given to the application.
+ * <p>
+ * {@code --batch=FILE} runs the commands in {@code FILE} without the GUI, or the commands from standard input if
+ * {@code FILE} is {@value #STDIN_BATCH_SCRIPT}. {@code --checkpoint=N} then saves the data every {@code N} commands.
  */
 public class AppParameters {
+    public static final String STDIN_BATCH_SCRIPT = "-";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    /** Same format as the named parameters of {@link Application.Parameters}. */
+    private static final Pattern NAMED_PARAMETER_FORMAT = Pattern.compile("--(?<name>[^=]+)=(?<value>.*)");
+
     private Path configPath;
+    private boolean isBatchMode;
+    private Path batchScriptPath;
+    private int checkpointInterval;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +41,55 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    public boolean isBatchMode() {
+        return isBatchMode;
+    }
+
+    /**
+     * Sets whether to run commands without the GUI, reading them from {@code batchScriptPath},
+     * or from standard input if {@code batchScriptPath} is null.
+     */
+    public void setBatchMode(boolean isBatchMode, Path batchScriptPath) {
+        this.isBatchMode = isBatchMode;
+        this.batchScriptPath = batchScriptPath;
+    }
+
+    public Path getBatchScriptPath() {
+        return batchScriptPath;
+    }
+
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    public void setCheckpointInterval(int checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments given to the application.
+     * Only arguments of the form {@code --name=value} are used.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            Matcher matcher = NAMED_PARAMETER_FORMAT.matcher(arg);
+            if (matcher.matches()) {
+                namedParameters.put(matcher.group("name"), matcher.group("value"));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,9 +98,39 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String batchParameter = namedParameters.get("batch");
+        if (STDIN_BATCH_SCRIPT.equals(batchParameter)) {
+            appParameters.setBatchMode(true, null);
+        } else if (batchParameter != null && FileUtil.isValidPath(batchParameter)) {
+            appParameters.setBatchMode(true, Paths.get(batchParameter));
+        } else if (batchParameter != null) {
+            logger.warning("Invalid batch script path " + batchParameter + ". Starting the GUI instead.");
+        }
+
+        String checkpointParameter = namedParameters.get("checkpoint");
+        if (checkpointParameter != null) {
+            appParameters.setCheckpointInterval(parseCheckpointInterval(checkpointParameter));
+        }
+
         return appParameters;
     }
 
+    /**
+     * Returns the checkpoint interval in {@code checkpointParameter}, or 0 if it is not a non-negative integer.
+     */
+    private static int parseCheckpointInterval(String checkpointParameter) {
+        try {
+            int checkpointInterval = Integer.parseInt(checkpointParameter);
+            if (checkpointInterval >= 0) {
+                return checkpointInterval;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        logger.warning("Invalid checkpoint interval " + checkpointParameter + ". Saving only at the end.");
+        return 0;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +143,24 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && isBatchMode == otherAppParameters.isBatchMode
+                && Objects.equals(batchScriptPath, otherAppParameters.batchScriptPath)
+                && checkpointInterval == otherAppParameters.checkpointInterval;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, isBatchMode, batchScriptPath, checkpointInterval);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("isBatchMode", isBatchMode)
+                .add("batchScriptPath", batchScriptPath)
+                .add("checkpointInterval", checkpointInterval)
                 .toString();
     }
 }
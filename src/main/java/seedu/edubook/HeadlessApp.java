@@ -0,0 +1,144 @@
+package seedu.edubook;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.edubook.commons.core.Config;
+import seedu.edubook.commons.core.LogsCenter;
+import seedu.edubook.commons.exceptions.DataLoadingException;
+import seedu.edubook.logic.BatchRunner;
+import seedu.edubook.logic.Logic;
+import seedu.edubook.logic.LogicManager;
+import seedu.edubook.model.AddressBook;
+import seedu.edubook.model.Model;
+import seedu.edubook.model.ModelManager;
+import seedu.edubook.model.ReadOnlyAddressBook;
+import seedu.edubook.model.UserPrefs;
+import seedu.edubook.storage.AddressBookStorage;
+import seedu.edubook.storage.JournaledAddressBookStorage;
+import seedu.edubook.storage.JsonUserPrefsStorage;
+import seedu.edubook.storage.Storage;
+import seedu.edubook.storage.StorageManager;
+import seedu.edubook.storage.UserPrefsStorage;
+
+/**
+ * Runs the application without the GUI, executing a script of commands with {@link BatchRunner}.
+ * Unlike {@link MainApp}, a data file that cannot be loaded stops the run rather than being replaced if none of its
+ * backups can be loaded either, and a missing data file is started empty rather than with sample data.
+ */
+public class HeadlessApp {
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_FAILURE = 1;
+
+    public static final String MESSAGE_DATA_LOADING_FAILED = "Data file at %s could not be loaded: %s";
+    public static final String MESSAGE_DATA_RECOVERED = "Data file at %s could not be loaded, using its newest backup";
+    public static final String MESSAGE_SCRIPT_READING_FAILED = "Could not read commands: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final AppParameters appParameters;
+    private final PrintStream outputStream;
+    private final PrintStream errorStream;
+
+    private volatile boolean hasSaveFailed = false;
+
+    /**
+     * Creates a {@code HeadlessApp} that runs the batch script in {@code appParameters}, printing the outcome to
+     * {@code outputStream} and errors to {@code errorStream}.
+     */
+    public HeadlessApp(AppParameters appParameters, PrintStream outputStream, PrintStream errorStream) {
+        requireNonNull(appParameters);
+        requireNonNull(outputStream);
+        requireNonNull(errorStream);
+        this.appParameters = appParameters;
+        this.outputStream = outputStream;
+        this.errorStream = errorStream;
+    }
+
+    /**
+     * Executes the batch script and saves the changes.
+     *
+     * @return {@link #EXIT_SUCCESS} if every command succeeded and every change was saved,
+     *     or {@link #EXIT_FAILURE} otherwise.
+     */
+    public int run() {
+        logger.info("=============================[ Running batch script ]===========================");
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = AppInitializer.initAddressBookStorage(config, userPrefs);
+        Storage storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        Optional<Model> model = initModelManager(storage, userPrefs, Math.max(config.getUndoHistoryDepth(), 0));
+        if (model.isEmpty()) {
+            return EXIT_FAILURE;
+        }
+        if (addressBookStorage instanceof JournaledAddressBookStorage journaledStorage) {
+            journaledStorage.trackChanges(model.get().getAddressBook().getPersonList());
+        }
+
+        Logic logic = new LogicManager(model.get(), storage);
+        logic.setSaveFailureHandler(message -> {
+            hasSaveFailed = true;
+            errorStream.println(message);
+        });
+
+        BatchRunner batchRunner = new BatchRunner(logic, appParameters.getCheckpointInterval(), errorStream);
+        boolean hasReadingFailed = false;
+        try (BufferedReader reader = openBatchScript()) {
+            batchRunner.run(reader);
+        } catch (IOException e) {
+            hasReadingFailed = true;
+            errorStream.println(String.format(MESSAGE_SCRIPT_READING_FAILED, e.getMessage()));
+        } finally {
+            logic.shutdown();
+        }
+
+        outputStream.println(batchRunner.getSummary());
+        return batchRunner.getFailedCount() == 0 && !hasReadingFailed && !hasSaveFailed
+                ? EXIT_SUCCESS
+                : EXIT_FAILURE;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs},
+     * or an empty address book if there is no data file yet.
+     * If the data file cannot be loaded, its newest backup that can be loaded is used instead.
+     * Returns {@code Optional.empty()} if there is no such backup, so that the data file is not overwritten.
+     * Up to {@code historyDepth} changes can be undone.
+     */
+    private Optional<Model> initModelManager(Storage storage, UserPrefs userPrefs, int historyDepth) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+        try {
+            ReadOnlyAddressBook initialData = storage.readAddressBook().orElseGet(AddressBook::new);
+            return Optional.of(new ModelManager(initialData, userPrefs, historyDepth));
+        } catch (DataLoadingException e) {
+            Optional<ReadOnlyAddressBook> backup = AppInitializer.readNewestBackup(storage);
+            if (backup.isPresent()) {
+                errorStream.println(String.format(MESSAGE_DATA_RECOVERED, storage.getAddressBookFilePath()));
+                return Optional.of(new ModelManager(backup.get(), userPrefs, historyDepth));
+            }
+            errorStream.println(String.format(MESSAGE_DATA_LOADING_FAILED,
+                    storage.getAddressBookFilePath(), e.getMessage()));
+            return Optional.empty();
+        }
+    }
+
+    private BufferedReader openBatchScript() throws IOException {
+        if (appParameters.getBatchScriptPath() == null) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(appParameters.getBatchScriptPath(), StandardCharsets.UTF_8);
+    }
+}
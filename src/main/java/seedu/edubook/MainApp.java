@@ -11,7 +11,6 @@ import seedu.edubook.commons.core.Config;
 import seedu.edubook.commons.core.LogsCenter;
 import seedu.edubook.commons.core.Version;
 import seedu.edubook.commons.exceptions.DataLoadingException;
-import seedu.edubook.commons.util.ConfigUtil;
 import seedu.edubook.commons.util.StringUtil;
 import seedu.edubook.logic.Logic;
 import seedu.edubook.logic.LogicManager;
@@ -23,7 +22,7 @@ import seedu.edubook.model.ReadOnlyUserPrefs;
 import seedu.edubook.model.UserPrefs;
 import seedu.edubook.model.util.SampleDataUtil;
 import seedu.edubook.storage.AddressBookStorage;
-import seedu.edubook.storage.JsonAddressBookStorage;
+import seedu.edubook.storage.JournaledAddressBookStorage;
 import seedu.edubook.storage.JsonUserPrefsStorage;
 import seedu.edubook.storage.Storage;
 import seedu.edubook.storage.StorageManager;
@@ -44,6 +43,8 @@ public class MainApp extends Application {
     private static final String MESSAGE_FILE_CORRUPTED = "It seems like your saved file is corrupted."
             + "\nIf you have made any manual changes, please revert them and reload the app."
             + "\nOtherwise, a new file will be created.";
+    private static final String MESSAGE_FILE_RECOVERED = "It seems like your saved file is corrupted."
+            + "\nThe most recent backup of it has been loaded instead.";
 
     protected Ui ui;
     protected Logic logic;
@@ -52,7 +53,7 @@ public class MainApp extends Application {
     protected Config config;
     protected ErrorDisplayable errorDisplayable;
 
-    private boolean hasErrorMessage = false;
+    private String errorMessage = null;
 
     @Override
     public void init() throws Exception {
@@ -65,10 +66,13 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = AppInitializer.initAddressBookStorage(config, userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
+        if (addressBookStorage instanceof JournaledAddressBookStorage journaledStorage) {
+            journaledStorage.trackChanges(model.getAddressBook().getPersonList());
+        }
 
         logic = new LogicManager(model, storage);
 
@@ -83,7 +87,8 @@ public class MainApp extends Application {
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * or the newest backup that can be read will be used instead if errors occur when reading {@code storage}'s
+     * address book. If there is no such backup, an empty address book will be used.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
@@ -98,13 +103,19 @@ public class MainApp extends Application {
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            this.hasErrorMessage = true;
-            initialData = new AddressBook();
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded.");
+            Optional<ReadOnlyAddressBook> backupOptional = AppInitializer.readNewestBackup(storage);
+            if (backupOptional.isPresent()) {
+                this.errorMessage = MESSAGE_FILE_RECOVERED;
+                initialData = backupOptional.get();
+            } else {
+                logger.warning("No backup could be loaded. Will be starting with an empty AddressBook.");
+                this.errorMessage = MESSAGE_FILE_CORRUPTED;
+                initialData = new AddressBook();
+            }
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return new ModelManager(initialData, userPrefs, Math.max(config.getUndoHistoryDepth(), 0));
     }
 
     private void initLogging(Config config) {
@@ -112,88 +123,36 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
+     * Returns a {@code Config} using the file at {@code configFilePath}.
+     *
+     * @see AppInitializer#initConfig(Path)
      */
     protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
-            }
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
-                    + " Using default config properties.");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
+        return AppInitializer.initConfig(configFilePath);
     }
 
     /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path.
+     *
+     * @see AppInitializer#initPrefs(UserPrefsStorage)
      */
     protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using preference file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
-            }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataLoadingException e) {
-            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
-                    + " Using default preferences.");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
+        return AppInitializer.initPrefs(storage);
     }
 
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
-        if (this.hasErrorMessage) {
-            errorDisplayable.showErrorAlert(MESSAGE_FILE_CORRUPTED);
+        if (this.errorMessage != null) {
+            errorDisplayable.showErrorAlert(errorMessage);
         }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        logic.shutdown();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -13,10 +13,16 @@ import seedu.edubook.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final int DEFAULT_JOURNAL_COMPACTION_THRESHOLD = 1000;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean journalEnabled = false;
+    private int journalCompactionThreshold = DEFAULT_JOURNAL_COMPACTION_THRESHOLD;
+    private DurabilityPolicy durabilityPolicy = DurabilityPolicy.FILE;
+    private int backupCount = 3;
+    private int undoHistoryDepth = 20;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +40,46 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    public int getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    public void setJournalCompactionThreshold(int journalCompactionThreshold) {
+        this.journalCompactionThreshold = journalCompactionThreshold;
+    }
+
+    public DurabilityPolicy getDurabilityPolicy() {
+        return durabilityPolicy;
+    }
+
+    public void setDurabilityPolicy(DurabilityPolicy durabilityPolicy) {
+        this.durabilityPolicy = durabilityPolicy;
+    }
+
+    public int getBackupCount() {
+        return backupCount;
+    }
+
+    public void setBackupCount(int backupCount) {
+        this.backupCount = backupCount;
+    }
+
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +93,18 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && journalEnabled == otherConfig.journalEnabled
+                && journalCompactionThreshold == otherConfig.journalCompactionThreshold
+                && durabilityPolicy == otherConfig.durabilityPolicy
+                && backupCount == otherConfig.backupCount
+                && undoHistoryDepth == otherConfig.undoHistoryDepth;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, journalEnabled, journalCompactionThreshold,
+                durabilityPolicy, backupCount, undoHistoryDepth);
     }
 
     @Override
@@ -60,6 +112,11 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("journalEnabled", journalEnabled)
+                .add("journalCompactionThreshold", journalCompactionThreshold)
+                .add("durabilityPolicy", durabilityPolicy)
+                .add("backupCount", backupCount)
+                .add("undoHistoryDepth", undoHistoryDepth)
                 .toString();
     }
 
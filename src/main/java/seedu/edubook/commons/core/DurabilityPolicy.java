@@ -0,0 +1,16 @@
+package seedu.edubook.commons.core;
+
+/**
+ * How far a save waits for the saved data to reach the disk before the new file replaces the old one.
+ */
+public enum DurabilityPolicy {
+
+    /** Leaves flushing to the operating system. A power loss shortly after a save may undo the save. */
+    NONE,
+
+    /** Flushes the new file before it replaces the old one, so a crash leaves one of them whole. */
+    FILE,
+
+    /** Also flushes the directory after the replacement, so that the replacement itself survives a power loss. */
+    FILE_AND_DIRECTORY
+}
@@ -1,17 +1,26 @@
 package seedu.edubook.commons.util;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import seedu.edubook.commons.core.DurabilityPolicy;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
     private static final String CHARSET = "UTF-8";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +89,123 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Appends given string to the end of a file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        appendToFile(file, content, DurabilityPolicy.NONE);
+    }
+
+    /**
+     * Appends given string to the end of a file, and flushes it to disk as required by {@code policy}.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content, DurabilityPolicy policy) throws IOException {
+        boolean isNewFile = !Files.exists(file);
+        ByteBuffer bytes = ByteBuffer.wrap(content.getBytes(CHARSET));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            if (policy != DurabilityPolicy.NONE) {
+                channel.force(false);
+            }
+        }
+        if (isNewFile && policy == DurabilityPolicy.FILE_AND_DIRECTORY) {
+            forceDirectory(file.toAbsolutePath().getParent());
+        }
+    }
+
+    /**
+     * Replaces {@code file} with the content written by {@code writer}, such that {@code file} is never left partly
+     * written. The content is written to a temporary file in the same directory, flushed to disk as required by
+     * {@code policy}, and then renamed over {@code file}.
+     * Will create the file and its parent directories if they do not exist yet.
+     *
+     * @param backupCount Number of previous versions of {@code file} to keep, the newest at
+     *     {@code getBackupFilePath(file, 1)}.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer, DurabilityPolicy policy, int backupCount)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            writer.write(tempFile);
+            if (policy != DurabilityPolicy.NONE) {
+                try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                    channel.force(true);
+                }
+            }
+            if (backupCount > 0 && isFileExists(file)) {
+                rotateBackups(file, backupCount);
+            }
+            moveAtomically(tempFile, file);
+            if (policy == DurabilityPolicy.FILE_AND_DIRECTORY) {
+                forceDirectory(file.toAbsolutePath().getParent());
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Returns the location of the {@code generation}-th newest backup of {@code file}, starting from 1.
+     *
+     * @see #writeAtomically(Path, ContentWriter, DurabilityPolicy, int)
+     */
+    public static Path getBackupFilePath(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX + generation);
+    }
+
+    /**
+     * Shifts each backup of {@code file} back by a generation, dropping the oldest, and makes {@code file} the
+     * newest backup. {@code file} itself stays in place.
+     */
+    private static void rotateBackups(Path file, int backupCount) throws IOException {
+        Files.deleteIfExists(getBackupFilePath(file, backupCount));
+        for (int generation = backupCount - 1; generation >= 1; generation--) {
+            Path backup = getBackupFilePath(file, generation);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupFilePath(file, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        Path newestBackup = getBackupFilePath(file, 1);
+        try {
+            // A link shares the data with the current file, which is about to be replaced rather than modified
+            Files.createLink(newestBackup, file);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(file, newestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Flushes the entries of {@code directory} to disk, where the platform allows directories to be opened.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened on some platforms, such as Windows, which make renames durable themselves
+        }
+    }
+
+    /**
+     * Writes content to a given file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(Path file) throws IOException;
+    }
+
 }
@@ -0,0 +1,89 @@
+package seedu.edubook.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.regex.Pattern;
+
+/**
+ * Helper functions for validating the values of fields.
+ * The simple character-class checks are written out by hand, as they run for every field of every person whenever
+ * data is loaded or a command is parsed. Anything more complex is matched against a pattern compiled once.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code test} is one or more alphanumeric characters and spaces, starting with an alphanumeric
+     * character. Equivalent to matching {@code [\p{Alnum}][\p{Alnum} ]*}.
+     */
+    public static boolean isAlphanumericWithSpaces(String test) {
+        requireNonNull(test);
+        if (test.isEmpty() || !isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAlphanumeric(c) && c != ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is one or more alphanumeric or whitespace characters.
+     * Equivalent to matching {@code [\p{Alnum}\p{Space}]+}.
+     */
+    public static boolean isAlphanumericOrWhitespace(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAlphanumeric(c) && !isWhitespace(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is at least {@code minLength} digits and nothing else.
+     * Equivalent to matching <code>\d{minLength,}</code>.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        requireNonNull(test);
+        if (test.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the whole of {@code test} matches {@code pattern}.
+     */
+    public static boolean matches(String test, Pattern pattern) {
+        requireNonNull(test);
+        return pattern.matcher(test).matches();
+    }
+
+    /**
+     * Returns true if {@code c} is in {@code \p{Alnum}}, which only covers ASCII letters and digits.
+     */
+    private static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * Returns true if {@code c} is in {@code \p{Space}}, which only covers ASCII whitespace.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.edubook.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.edubook.commons.core.LogsCenter;
+import seedu.edubook.logic.metrics.CommandMetrics;
+import seedu.edubook.model.ReadOnlyAddressBook;
+import seedu.edubook.storage.Storage;
+
+/**
+ * Saves address book snapshots to storage on a background thread.
+ * A snapshot requested while an earlier one is still waiting to be written replaces it, so a burst of requests
+ * results in a single write of the latest data.
+ * The time taken and bytes written by each save are recorded against the command that requested it.
+ */
+class BackgroundSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSaver.class);
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final Storage storage;
+    private final Consumer<IOException> failureHandler;
+    private final CommandMetrics metrics;
+    private final AtomicReference<PendingSave> pendingSave = new AtomicReference<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "edubook-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates a {@code BackgroundSaver} that writes to {@code storage}.
+     *
+     * @param failureHandler Called on the background thread with the cause whenever a save fails.
+     * @param metrics Where the cost of each save is recorded.
+     */
+    BackgroundSaver(Storage storage, Consumer<IOException> failureHandler, CommandMetrics metrics) {
+        requireNonNull(storage);
+        requireNonNull(failureHandler);
+        requireNonNull(metrics);
+        this.storage = storage;
+        this.failureHandler = failureHandler;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Schedules {@code snapshot} to be saved, replacing any snapshot that has not started being written yet.
+     * {@code snapshot} must not be modified afterwards.
+     *
+     * @param commandWord Command word of the command whose changes are being saved.
+     */
+    void requestSave(ReadOnlyAddressBook snapshot, String commandWord) {
+        requireNonNull(snapshot);
+        requireNonNull(commandWord);
+        if (pendingSave.getAndSet(new PendingSave(snapshot, commandWord)) == null) {
+            executor.execute(this::savePendingSnapshot);
+        }
+    }
+
+    /**
+     * Blocks until every snapshot requested so far has been written, or has failed to be written.
+     */
+    void flush() {
+        if (executor.isShutdown()) {
+            return;
+        }
+
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task should not fail", e);
+        }
+    }
+
+    /**
+     * Writes any pending snapshot and stops the background thread.
+     */
+    void shutdown() {
+        flush();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Timed out while waiting for pending saves to complete");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void savePendingSnapshot() {
+        PendingSave save = pendingSave.getAndSet(null);
+        if (save == null) {
+            return;
+        }
+
+        long bytesWrittenBefore = storage.getBytesWritten();
+        long startTime = System.nanoTime();
+        try {
+            storage.saveAddressBook(save.snapshot);
+            metrics.recordSave(save.commandWord, System.nanoTime() - startTime,
+                    storage.getBytesWritten() - bytesWrittenBefore);
+        } catch (IOException e) {
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * A snapshot waiting to be saved, with the command word of the command whose changes it holds.
+     */
+    private static class PendingSave {
+        private final ReadOnlyAddressBook snapshot;
+        private final String commandWord;
+
+        PendingSave(ReadOnlyAddressBook snapshot, String commandWord) {
+            this.snapshot = snapshot;
+            this.commandWord = commandWord;
+        }
+    }
+}
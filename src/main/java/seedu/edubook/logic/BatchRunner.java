@@ -0,0 +1,117 @@
+package seedu.edubook.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.logging.Logger;
+
+import seedu.edubook.commons.core.LogsCenter;
+import seedu.edubook.logic.commands.CommandResult;
+import seedu.edubook.logic.commands.exceptions.CommandException;
+import seedu.edubook.logic.parser.exceptions.ParseException;
+
+/**
+ * Executes a script of commands, one command per line, without saving after every command.
+ * Changes are saved every {@code checkpointInterval} commands if it is positive, and once more at the end.
+ * Blank lines and lines starting with {@link #COMMENT_PREFIX} are skipped. A command that fails is reported
+ * and the script carries on with the next line.
+ */
+public class BatchRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_COMMAND_FAILED = "Line %d: %s";
+    public static final String MESSAGE_SUMMARY = "Executed %d commands, %d failed";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Logic logic;
+    private final int checkpointInterval;
+    private final PrintStream errorStream;
+
+    private int executedCount = 0;
+    private int failedCount = 0;
+
+    /**
+     * Creates a {@code BatchRunner} that executes commands with {@code logic}.
+     *
+     * @param checkpointInterval Number of commands between saves, or 0 to only save at the end.
+     * @param errorStream Where failed commands are reported.
+     */
+    public BatchRunner(Logic logic, int checkpointInterval, PrintStream errorStream) {
+        requireNonNull(logic);
+        requireNonNull(errorStream);
+        if (checkpointInterval < 0) {
+            throw new IllegalArgumentException("Checkpoint interval must not be negative");
+        }
+        this.logic = logic;
+        this.checkpointInterval = checkpointInterval;
+        this.errorStream = errorStream;
+    }
+
+    /**
+     * Executes each command read from {@code reader} until the end of the input or an {@code exit} command,
+     * then saves all changes.
+     *
+     * @throws IOException if reading from {@code reader} fails. Changes made so far are still saved.
+     */
+    public void run(BufferedReader reader) throws IOException {
+        requireNonNull(reader);
+        logic.setAutoSave(false);
+        try {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.strip().startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                if (execute(lineNumber, line)) {
+                    break;
+                }
+                if (checkpointInterval > 0 && executedCount % checkpointInterval == 0) {
+                    logger.info("Checkpoint after " + executedCount + " commands");
+                    logic.checkpoint();
+                }
+            }
+        } finally {
+            logic.checkpoint();
+            logic.setAutoSave(true);
+        }
+    }
+
+    /**
+     * Executes the command on line {@code lineNumber}, reporting it if it fails.
+     *
+     * @return true if the command asks for the application to exit.
+     */
+    private boolean execute(int lineNumber, String commandText) {
+        executedCount++;
+        try {
+            CommandResult result = logic.execute(commandText);
+            return result.isExit();
+        } catch (CommandException | ParseException e) {
+            failedCount++;
+            errorStream.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e.getMessage()));
+            return false;
+        }
+    }
+
+    public int getExecutedCount() {
+        return executedCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Returns a message stating how many commands were executed and how many of them failed.
+     */
+    public String getSummary() {
+        return String.format(MESSAGE_SUMMARY, executedCount, failedCount);
+    }
+}
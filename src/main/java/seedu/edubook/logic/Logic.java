@@ -1,6 +1,7 @@
 package seedu.edubook.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.edubook.commons.core.GuiSettings;
@@ -23,6 +24,34 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler to notify when saving the address book fails.
+     * Saving happens in the background, so the handler is called on a background thread with a user-facing message.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Blocks until all changes made by commands executed so far have been saved, or have failed to be saved.
+     */
+    void flush();
+
+    /**
+     * Sets whether changes are saved after every command, which is the default.
+     * When disabled, changes are only saved by {@link #checkpoint()} and {@link #shutdown()}.
+     */
+    void setAutoSave(boolean isAutoSave);
+
+    /**
+     * Saves any changes not saved yet, and blocks until they have been saved or have failed to be saved.
+     */
+    void checkpoint();
+
+    /**
+     * Saves any pending changes and stops background saving.
+     * No more commands should be executed afterwards.
+     */
+    void shutdown();
+
     /**
      * Returns the AddressBook.
      *
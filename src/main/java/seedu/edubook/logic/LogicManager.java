@@ -1,16 +1,24 @@
 package seedu.edubook.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.edubook.commons.core.GuiSettings;
 import seedu.edubook.commons.core.LogsCenter;
 import seedu.edubook.logic.commands.Command;
 import seedu.edubook.logic.commands.CommandResult;
 import seedu.edubook.logic.commands.exceptions.CommandException;
+import seedu.edubook.logic.metrics.CommandMetrics;
 import seedu.edubook.logic.parser.AddressBookParser;
 import seedu.edubook.logic.parser.exceptions.ParseException;
 import seedu.edubook.model.Model;
@@ -20,6 +28,11 @@ import seedu.edubook.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * Changes made by commands are saved on a background thread, and only when the modification count of the address book
+ * shows that it has changed since the last save.
+ * The state of the address book after each command is committed to the model's undo/redo history.
+ * The cost of parsing, executing and saving each command is recorded in {@link CommandMetrics}, which is shown by
+ * the {@code metrics} command and logged periodically.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: '%s'";
@@ -27,38 +40,139 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    private static final long UNSAVED = -1;
+
+    private static final long METRICS_LOG_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(10);
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final BackgroundSaver saver;
+    /** Modification count of the address book when it was last saved, or {@code UNSAVED} if that save failed. */
+    private final AtomicLong savedModificationCount;
+    private final CommandMetrics metrics = new CommandMetrics();
+    private final AtomicInteger personsTouched = new AtomicInteger();
+
+    private volatile boolean isAutoSave = true;
+    private String lastCommandWord = "";
+    private long lastMetricsLogTime = System.nanoTime();
+
+    private volatile Consumer<String> saveFailureHandler = message -> { };
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
-        this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        addressBookParser = new AddressBookParser(metrics);
+        saver = new BackgroundSaver(storage, this::handleSaveFailure, metrics);
+        savedModificationCount = new AtomicLong(model.getModificationCount());
+
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                // A replaced person is counted once
+                personsTouched.addAndGet(Math.max(change.getAddedSize(), change.getRemovedSize()));
+            }
+        });
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            String commandWord = AddressBookParser.getCommandWord(commandText);
+            long allocatedBytesBefore = CommandMetrics.getCurrentThreadAllocatedBytes();
+            long parseStartTime = System.nanoTime();
+            Command command = addressBookParser.parseCommand(commandText);
+            long executeStartTime = System.nanoTime();
+            metrics.recordParse(commandWord, executeStartTime - parseStartTime);
+
+            lastCommandWord = commandWord;
+            personsTouched.set(0);
+            try {
+                return command.execute(model);
+            } finally {
+                metrics.recordExecution(commandWord, System.nanoTime() - executeStartTime, personsTouched.get(),
+                        getAllocatedBytesSince(allocatedBytesBefore));
+            }
+        } finally {
+            model.commitAddressBook();
+            if (isAutoSave) {
+                saveIfChanged();
+            }
+            logMetricsIfDue();
+        }
+    }
+
+    /**
+     * Schedules a background save of a snapshot of the address book if it has changed since the last save.
+     */
+    private void saveIfChanged() {
+        long modificationCount = model.getModificationCount();
+        if (savedModificationCount.getAndSet(modificationCount) != modificationCount) {
+            saver.requestSave(model.getAddressBookSnapshot(), lastCommandWord);
+        }
+    }
+
+    private static long getAllocatedBytesSince(long allocatedBytesBefore) {
+        if (allocatedBytesBefore < 0) {
+            return -1;
         }
+        return CommandMetrics.getCurrentThreadAllocatedBytes() - allocatedBytesBefore;
+    }
+
+    private void logMetricsIfDue() {
+        long now = System.nanoTime();
+        if (now - lastMetricsLogTime >= METRICS_LOG_INTERVAL_NANOS) {
+            lastMetricsLogTime = now;
+            logger.info(metrics.getSummary());
+        }
+    }
 
-        return commandResult;
+    /**
+     * Reports a failed save to the registered handler. The changes are saved again after the next command.
+     */
+    private void handleSaveFailure(IOException e) {
+        savedModificationCount.set(UNSAVED);
+
+        String message = e instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+        logger.warning(message);
+        saveFailureHandler.accept(message);
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
+    }
+
+    @Override
+    public void flush() {
+        saver.flush();
+    }
+
+    @Override
+    public void setAutoSave(boolean isAutoSave) {
+        this.isAutoSave = isAutoSave;
+    }
+
+    @Override
+    public void checkpoint() {
+        saveIfChanged();
+        saver.flush();
+    }
+
+    @Override
+    public void shutdown() {
+        saveIfChanged();
+        saver.shutdown();
+        if (!metrics.isEmpty()) {
+            logger.info(metrics.getSummary());
+        }
     }
 
     @Override
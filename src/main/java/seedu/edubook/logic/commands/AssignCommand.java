@@ -102,15 +102,20 @@ public class AssignCommand extends Command {
         int successCount = 0;
         int skippedCount = 0;
 
-        for (Person person : assignees) {
-            try {
-                Assignment newAssignment = new Assignment(assignmentName);
-                model.setPerson(person, person.withAddedAssignment(newAssignment));
-                successCount++;
-            } catch (AssignmentAlreadyExistsException e) {
-                skippedCount++;
-                logger.fine(() -> "Skipped " + person.getName() + " (already has assignment)");
+        model.beginBatch();
+        try {
+            for (Person person : assignees) {
+                try {
+                    Assignment newAssignment = new Assignment(assignmentName);
+                    model.setPerson(person, person.withAddedAssignment(newAssignment));
+                    successCount++;
+                } catch (AssignmentAlreadyExistsException e) {
+                    skippedCount++;
+                    logger.fine(() -> "Skipped " + person.getName() + " (already has assignment)");
+                }
             }
+        } finally {
+            model.endBatch();
         }
         return new int[]{successCount, skippedCount};
     }
@@ -104,8 +104,13 @@ public class DeleteCommand extends Command {
 
         List<Person> studentsToDelete = target.getPersons(model);
 
-        for (Person p : studentsToDelete) {
-            model.deletePerson(p);
+        model.beginBatch();
+        try {
+            for (Person p : studentsToDelete) {
+                model.deletePerson(p);
+            }
+        } finally {
+            model.endBatch();
         }
         return new CommandResult(String.format(target.getDeleteSuccessMessage()));
     }
@@ -2,9 +2,14 @@ package seedu.edubook.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import seedu.edubook.commons.util.ToStringBuilder;
 import seedu.edubook.logic.Messages;
 import seedu.edubook.model.Model;
+import seedu.edubook.model.person.Person;
+import seedu.edubook.model.person.PersonName;
 import seedu.edubook.model.person.PersonNameContainsKeywordsPredicate;
 
 /**
@@ -29,7 +34,12 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        // Matches are looked up once in the model's name index, instead of testing every name against every keyword.
+        // Membership is by name, so persons that are edited without being renamed stay in the list.
+        Set<PersonName> matchingNames = model.findPersonsByNameKeywords(predicate.getKeywords()).stream()
+                .map(Person::getName)
+                .collect(Collectors.toSet());
+        model.updateFilteredPersonList(person -> matchingNames.contains(person.getName()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -99,14 +99,19 @@ public class LabelCommand extends Command {
         int successCount = 0;
         int skippedCount = 0;
 
-        for (Person person : assignees) {
-            try {
-                model.setPerson(person, person.withAddedLabel(label));
-                successCount++;
-            } catch (LabelAlreadyExistsException e) {
-                skippedCount++;
-                logger.fine(() -> "Skipped " + person.getName() + " (already has label)");
+        model.beginBatch();
+        try {
+            for (Person person : assignees) {
+                try {
+                    model.setPerson(person, person.withAddedLabel(label));
+                    successCount++;
+                } catch (LabelAlreadyExistsException e) {
+                    skippedCount++;
+                    logger.fine(() -> "Skipped " + person.getName() + " (already has label)");
+                }
             }
+        } finally {
+            model.endBatch();
         }
         return new int[]{successCount, skippedCount};
     }
@@ -117,18 +117,22 @@ public class MarkCommand extends Command {
         int alreadyMarkedCount = 0;
         int notExistCount = 0;
 
-        for (Person person : assignees) {
-            try {
-                person.markAssignment(assignmentName);
-                model.setPerson(person, person);
-                markedCount++;
-            } catch (AssignmentMarkedException e) {
-                alreadyMarkedCount++;
-                logger.fine(() -> "Already marked: " + person.getName());
-            } catch (AssignmentNotFoundException e) {
-                notExistCount++;
-                logger.fine(() -> "Assignment does not exist for: " + person.getName());
+        model.beginBatch();
+        try {
+            for (Person person : assignees) {
+                try {
+                    model.setPerson(person, person.withMarkedAssignment(assignmentName));
+                    markedCount++;
+                } catch (AssignmentMarkedException e) {
+                    alreadyMarkedCount++;
+                    logger.fine(() -> "Already marked: " + person.getName());
+                } catch (AssignmentNotFoundException e) {
+                    notExistCount++;
+                    logger.fine(() -> "Assignment does not exist for: " + person.getName());
+                }
             }
+        } finally {
+            model.endBatch();
         }
 
         return new int[]{markedCount, alreadyMarkedCount, notExistCount};
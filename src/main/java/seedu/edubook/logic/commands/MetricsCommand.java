@@ -0,0 +1,50 @@
+package seedu.edubook.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.edubook.logic.metrics.CommandMetrics;
+import seedu.edubook.model.Model;
+import seedu.edubook.model.util.ValuePools;
+
+/**
+ * Shows how long recent commands took to parse, execute and save, and how much work they did.
+ */
+public class MetricsCommand extends Command {
+
+    public static final String COMMAND_WORD = "metrics";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the p50, p95 and p99 time taken by "
+            + "recent runs of each command, with the number of students each changed and the data each wrote, "
+            + "and how often classes, tags, labels and assignment names were shared with other students.\n"
+            + "Example: " + COMMAND_WORD;
+
+    private final CommandMetrics metrics;
+
+    /**
+     * Creates a {@code MetricsCommand} that shows {@code metrics}.
+     */
+    public MetricsCommand(CommandMetrics metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        return new CommandResult(metrics.getSummary() + "\n\n" + ValuePools.getSummary());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MetricsCommand)) {
+            return false;
+        }
+
+        MetricsCommand otherMetricsCommand = (MetricsCommand) other;
+        return metrics == otherMetricsCommand.metrics;
+    }
+}
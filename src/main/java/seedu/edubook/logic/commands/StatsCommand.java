@@ -0,0 +1,153 @@
+package seedu.edubook.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.edubook.logic.parser.CliSyntax.PREFIX_ASSIGNMENT_NAME;
+import static seedu.edubook.logic.parser.CliSyntax.PREFIX_CLASS;
+
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.logging.Logger;
+
+import seedu.edubook.commons.core.LogsCenter;
+import seedu.edubook.commons.util.ToStringBuilder;
+import seedu.edubook.logic.commands.exceptions.CommandException;
+import seedu.edubook.model.CompletionStats;
+import seedu.edubook.model.Model;
+import seedu.edubook.model.assignment.AssignmentName;
+import seedu.edubook.model.person.TuitionClass;
+import seedu.edubook.model.target.ClassTarget;
+
+/**
+ * Shows how many students have been assigned an assignment, how many have done it and how many have not,
+ * for a class, an assignment, or an assignment within a class.
+ * The counts are kept up to date by the model, so this does not scan the address book.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how many students have been assigned, have done and have yet to do each assignment "
+            + "in a class, each class's progress on an assignment, or both.\n"
+            + "Parameters: "
+            + "[" + PREFIX_CLASS + "CLASS] "
+            + "[" + PREFIX_ASSIGNMENT_NAME + "ASSIGNMENT] (at least one)\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_CLASS + "Class 3A " + PREFIX_ASSIGNMENT_NAME + "Tutorial 6"
+            + " OR "
+            + COMMAND_WORD + " " + PREFIX_CLASS + "Class 3A"
+            + " OR "
+            + COMMAND_WORD + " " + PREFIX_ASSIGNMENT_NAME + "Tutorial 6";
+
+    public static final String MESSAGE_STATS = "%1$d assigned, %2$d done, %3$d outstanding";
+    public static final String MESSAGE_CLASS_ASSIGNMENT_STATS = "\"%1$s\" in class \"%2$s\": %3$s";
+    public static final String MESSAGE_CLASS_HEADER = "Assignments in class \"%1$s\":";
+    public static final String MESSAGE_ASSIGNMENT_HEADER = "\"%1$s\" by class:";
+    public static final String MESSAGE_LINE = "\n%1$s: %2$s";
+    public static final String MESSAGE_TOTAL = "All classes";
+    public static final String MESSAGE_NO_ASSIGNMENTS_IN_CLASS = "No assignments found in class \"%1$s\"";
+    public static final String MESSAGE_ASSIGNMENT_NOT_ASSIGNED = "No students have been assigned \"%1$s\"";
+
+    private static final Logger logger = LogsCenter.getLogger(StatsCommand.class);
+
+    private final TuitionClass tuitionClass;
+    private final AssignmentName assignmentName;
+
+    /**
+     * Creates a {@code StatsCommand} for {@code assignmentName} in {@code tuitionClass}.
+     * Either may be null to show every class or every assignment, but not both.
+     */
+    public StatsCommand(TuitionClass tuitionClass, AssignmentName assignmentName) {
+        if (tuitionClass == null && assignmentName == null) {
+            throw new IllegalArgumentException("A class or an assignment must be given");
+        }
+        this.tuitionClass = tuitionClass;
+        this.assignmentName = assignmentName;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        logger.info("Executing StatsCommand for class: " + tuitionClass + ", assignment: " + assignmentName);
+
+        String message;
+        if (assignmentName == null) {
+            message = getClassStats(model);
+        } else if (tuitionClass == null) {
+            message = getAssignmentStats(model);
+        } else {
+            message = getClassAssignmentStats(model);
+        }
+        return new CommandResult(message);
+    }
+
+    private String getClassAssignmentStats(Model model) throws CommandException {
+        CompletionStats stats = model.getCompletionStats(tuitionClass, assignmentName);
+        if (stats.getAssignedCount() == 0 && model.countPersonsByClass(tuitionClass) == 0) {
+            throw new CommandException(String.format(ClassTarget.MESSAGE_NO_STUDENTS_FOUND, tuitionClass));
+        }
+        return String.format(MESSAGE_CLASS_ASSIGNMENT_STATS, assignmentName, tuitionClass, format(stats));
+    }
+
+    private String getClassStats(Model model) throws CommandException {
+        SortedMap<AssignmentName, CompletionStats> statsByAssignment =
+                model.getCompletionStatsByAssignment(tuitionClass);
+        if (statsByAssignment.isEmpty()) {
+            if (model.countPersonsByClass(tuitionClass) == 0) {
+                throw new CommandException(String.format(ClassTarget.MESSAGE_NO_STUDENTS_FOUND, tuitionClass));
+            }
+            throw new CommandException(String.format(MESSAGE_NO_ASSIGNMENTS_IN_CLASS, tuitionClass));
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_CLASS_HEADER, tuitionClass));
+        statsByAssignment.forEach((name, stats) ->
+                message.append(String.format(MESSAGE_LINE, name, format(stats))));
+        return message.toString();
+    }
+
+    private String getAssignmentStats(Model model) throws CommandException {
+        SortedMap<TuitionClass, CompletionStats> statsByClass = model.getCompletionStatsByClass(assignmentName);
+        if (statsByClass.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_ASSIGNMENT_NOT_ASSIGNED, assignmentName));
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_ASSIGNMENT_HEADER, assignmentName));
+        CompletionStats total = CompletionStats.EMPTY;
+        for (CompletionStats stats : statsByClass.values()) {
+            total = total.plus(stats);
+        }
+        statsByClass.forEach((tuitionClass, stats) ->
+                message.append(String.format(MESSAGE_LINE, tuitionClass, format(stats))));
+        message.append(String.format(MESSAGE_LINE, MESSAGE_TOTAL, format(total)));
+        return message.toString();
+    }
+
+    private static String format(CompletionStats stats) {
+        return String.format(MESSAGE_STATS, stats.getAssignedCount(), stats.getDoneCount(),
+                stats.getOutstandingCount());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return Objects.equals(tuitionClass, otherStatsCommand.tuitionClass)
+                && Objects.equals(assignmentName, otherStatsCommand.assignmentName);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tuitionClass", tuitionClass)
+                .add("assignmentName", assignmentName)
+                .toString();
+    }
+}
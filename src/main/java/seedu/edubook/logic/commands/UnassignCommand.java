@@ -100,15 +100,20 @@ public class UnassignCommand extends Command {
         int successCount = 0;
         int skippedCount = 0;
 
-        for (Person person : assignees) {
-            try {
-                Assignment newAssignment = new Assignment(assignmentName);
-                model.setPerson(person, person.withRemovedAssignment(newAssignment));
-                successCount++;
-            } catch (AssignmentNotFoundException e) {
-                skippedCount++;
-                logger.fine(() -> "Skipped " + person.getName() + " (already does not have this assignment)");
+        model.beginBatch();
+        try {
+            for (Person person : assignees) {
+                try {
+                    Assignment newAssignment = new Assignment(assignmentName);
+                    model.setPerson(person, person.withRemovedAssignment(newAssignment));
+                    successCount++;
+                } catch (AssignmentNotFoundException e) {
+                    skippedCount++;
+                    logger.fine(() -> "Skipped " + person.getName() + " (already does not have this assignment)");
+                }
             }
+        } finally {
+            model.endBatch();
         }
         return new int[]{successCount, skippedCount};
     }
@@ -0,0 +1,30 @@
+package seedu.edubook.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.edubook.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import seedu.edubook.logic.commands.exceptions.CommandException;
+import seedu.edubook.model.Model;
+
+/**
+ * Restores EduBook to the state before the last command that changed it.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+    public static final String MESSAGE_SUCCESS = "Undo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to undo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoAddressBook();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -89,14 +89,19 @@ public class UnlabelCommand extends Command {
         int successCount = 0;
         int skippedCount = 0;
 
-        for (Person person : assignees) {
-            try {
-                model.setPerson(person, person.withRemovedLabel());
-                successCount++;
-            } catch (LabelNotFoundException e) {
-                skippedCount++;
-                logger.fine(() -> "Skipped " + person.getName() + " (already does not have a label)");
+        model.beginBatch();
+        try {
+            for (Person person : assignees) {
+                try {
+                    model.setPerson(person, person.withRemovedLabel());
+                    successCount++;
+                } catch (LabelNotFoundException e) {
+                    skippedCount++;
+                    logger.fine(() -> "Skipped " + person.getName() + " (already does not have a label)");
+                }
             }
+        } finally {
+            model.endBatch();
         }
         return new int[]{successCount, skippedCount};
     }
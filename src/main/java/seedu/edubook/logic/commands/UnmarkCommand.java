@@ -114,18 +114,22 @@ public class UnmarkCommand extends Command {
         int alreadyUnmarkedCount = 0;
         int notExistCount = 0;
 
-        for (Person person : assignees) {
-            try {
-                person.unmarkAssignment(assignmentName);
-                model.setPerson(person, person);
-                unmarkedCount++;
-            } catch (AssignmentUnmarkedException e) {
-                alreadyUnmarkedCount++;
-                logger.fine(() -> "Already unmarked: " + person.getName());
-            } catch (AssignmentNotFoundException e) {
-                notExistCount++;
-                logger.fine(() -> "Assignment does not exist for: " + person.getName());
+        model.beginBatch();
+        try {
+            for (Person person : assignees) {
+                try {
+                    model.setPerson(person, person.withUnmarkedAssignment(assignmentName));
+                    unmarkedCount++;
+                } catch (AssignmentUnmarkedException e) {
+                    alreadyUnmarkedCount++;
+                    logger.fine(() -> "Already unmarked: " + person.getName());
+                } catch (AssignmentNotFoundException e) {
+                    notExistCount++;
+                    logger.fine(() -> "Assignment does not exist for: " + person.getName());
+                }
             }
+        } finally {
+            model.endBatch();
         }
 
         return new int[]{unmarkedCount, alreadyUnmarkedCount, notExistCount};
@@ -5,7 +5,9 @@ import static seedu.edubook.logic.parser.CliSyntax.PREFIX_ASSIGNMENT_NAME;
 import static seedu.edubook.logic.parser.CliSyntax.PREFIX_CLASS;
 import static seedu.edubook.logic.parser.CliSyntax.PREFIX_PERSON_NAME;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -60,7 +62,9 @@ public class ViewCommand extends Command {
         logger.info("Executing ViewCommand for target: " + target.getDisplayName());
 
         List<Person> studentsToView = target.getPersons(model);
-        Predicate<Person> predicate = studentsToView::contains;
+        // A set keeps the filter linear in the size of the address book, rather than quadratic.
+        Set<Person> studentsToViewSet = new HashSet<>(studentsToView);
+        Predicate<Person> predicate = studentsToViewSet::contains;
         model.updateFilteredPersonList(predicate);
         String message = target.getViewSuccessMessage();
 
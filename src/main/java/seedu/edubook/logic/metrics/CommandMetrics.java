@@ -0,0 +1,136 @@
+package seedu.edubook.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Records how long each kind of command takes to parse, execute and save, and how much work it does,
+ * keyed by command word.
+ * Each measurement is kept as a {@link RollingHistogram} of the last {@link #WINDOW_SIZE} runs of that command.
+ * Thread-safe, as saves are recorded on the background saving thread.
+ */
+public class CommandMetrics {
+
+    public static final int WINDOW_SIZE = 1000;
+
+    public static final String MESSAGE_NO_METRICS = "No commands have been run yet";
+
+    private static final double[] PERCENTILES = {50, 95, 99};
+    private static final double NANOS_PER_MILLI = 1_000_000;
+    private static final double BYTES_PER_KILOBYTE = 1024;
+
+    private final Map<String, CommandStats> statsByCommandWord = new ConcurrentSkipListMap<>();
+
+    /**
+     * Records that parsing a {@code commandWord} command took {@code nanos} nanoseconds.
+     */
+    public void recordParse(String commandWord, long nanos) {
+        getStats(commandWord).parseNanos.record(nanos);
+    }
+
+    /**
+     * Records a run of a {@code commandWord} command.
+     *
+     * @param nanos Time taken to execute the command, in nanoseconds.
+     * @param personsTouched Number of persons added, removed or replaced by the command.
+     * @param bytesAllocated Bytes allocated while parsing and executing the command, or a negative number if
+     *     allocations cannot be measured on this JVM.
+     */
+    public void recordExecution(String commandWord, long nanos, int personsTouched, long bytesAllocated) {
+        CommandStats stats = getStats(commandWord);
+        stats.runCount.incrementAndGet();
+        stats.executeNanos.record(nanos);
+        stats.personsTouched.record(personsTouched);
+        if (bytesAllocated >= 0) {
+            stats.bytesAllocated.record(bytesAllocated);
+        }
+    }
+
+    /**
+     * Records that saving the changes made by a {@code commandWord} command took {@code nanos} nanoseconds and
+     * wrote {@code bytesWritten} bytes.
+     */
+    public void recordSave(String commandWord, long nanos, long bytesWritten) {
+        CommandStats stats = getStats(commandWord);
+        stats.saveNanos.record(nanos);
+        stats.bytesWritten.record(bytesWritten);
+    }
+
+    /**
+     * Returns true if nothing has been recorded yet.
+     */
+    public boolean isEmpty() {
+        return statsByCommandWord.isEmpty();
+    }
+
+    /**
+     * Returns the p50/p95/p99 of each measurement of each command, one command per paragraph.
+     */
+    public String getSummary() {
+        if (isEmpty()) {
+            return MESSAGE_NO_METRICS;
+        }
+
+        StringBuilder summary = new StringBuilder("Command metrics (p50 / p95 / p99 of the last ")
+                .append(WINDOW_SIZE).append(" runs of each command)");
+        statsByCommandWord.forEach((commandWord, stats) -> {
+            summary.append("\n").append(commandWord).append(" (").append(stats.runCount.get()).append(" runs)");
+            appendLine(summary, "parse (ms)", stats.parseNanos, NANOS_PER_MILLI);
+            appendLine(summary, "execute (ms)", stats.executeNanos, NANOS_PER_MILLI);
+            appendLine(summary, "save (ms)", stats.saveNanos, NANOS_PER_MILLI);
+            appendLine(summary, "persons touched", stats.personsTouched, 1);
+            appendLine(summary, "allocated (KB)", stats.bytesAllocated, BYTES_PER_KILOBYTE);
+            appendLine(summary, "written (KB)", stats.bytesWritten, BYTES_PER_KILOBYTE);
+        });
+        return summary.toString();
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far, or -1 if this JVM cannot measure it.
+     */
+    public static long getCurrentThreadAllocatedBytes() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean)) {
+            return -1;
+        }
+
+        ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadBean.isThreadAllocatedMemorySupported() || !threadBean.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return threadBean.getCurrentThreadAllocatedBytes();
+    }
+
+    private CommandStats getStats(String commandWord) {
+        requireNonNull(commandWord);
+        return statsByCommandWord.computeIfAbsent(commandWord, word -> new CommandStats());
+    }
+
+    private static void appendLine(StringBuilder summary, String label, RollingHistogram histogram, double unit) {
+        if (histogram.size() == 0) {
+            return;
+        }
+
+        long[] values = histogram.getPercentiles(PERCENTILES);
+        summary.append(String.format("\n  %-16s %.2f / %.2f / %.2f",
+                label + ":", values[0] / unit, values[1] / unit, values[2] / unit));
+    }
+
+    /**
+     * The measurements of one kind of command.
+     */
+    private static class CommandStats {
+        private final AtomicLong runCount = new AtomicLong();
+        private final RollingHistogram parseNanos = new RollingHistogram(WINDOW_SIZE);
+        private final RollingHistogram executeNanos = new RollingHistogram(WINDOW_SIZE);
+        private final RollingHistogram saveNanos = new RollingHistogram(WINDOW_SIZE);
+        private final RollingHistogram personsTouched = new RollingHistogram(WINDOW_SIZE);
+        private final RollingHistogram bytesAllocated = new RollingHistogram(WINDOW_SIZE);
+        private final RollingHistogram bytesWritten = new RollingHistogram(WINDOW_SIZE);
+    }
+}
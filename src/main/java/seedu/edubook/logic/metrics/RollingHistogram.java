@@ -0,0 +1,76 @@
+package seedu.edubook.logic.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Holds the most recent samples of a measurement, and reports percentiles over them.
+ * Older samples are dropped once the window is full, so the percentiles follow recent behaviour.
+ * Thread-safe.
+ */
+public class RollingHistogram {
+
+    private final long[] samples;
+    private int nextIndex = 0;
+    private int size = 0;
+
+    /**
+     * Creates a histogram that keeps the last {@code windowSize} samples.
+     */
+    public RollingHistogram(int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size must be positive");
+        }
+        samples = new long[windowSize];
+    }
+
+    /**
+     * Adds {@code sample}, dropping the oldest sample if the window is full.
+     */
+    public synchronized void record(long sample) {
+        samples[nextIndex] = sample;
+        nextIndex = (nextIndex + 1) % samples.length;
+        size = Math.min(size + 1, samples.length);
+    }
+
+    /**
+     * Returns the number of samples in the window.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns the smallest sample that is at least {@code percentile} percent of the samples in the window,
+     * or 0 if there are none.
+     *
+     * @param percentile A value in {@code (0, 100]}.
+     */
+    public long getPercentile(double percentile) {
+        return getPercentiles(percentile)[0];
+    }
+
+    /**
+     * Returns the value of each of {@code percentiles}, as given by {@link #getPercentile(double)}.
+     * The samples are only sorted once.
+     */
+    public long[] getPercentiles(double... percentiles) {
+        long[] sorted;
+        synchronized (this) {
+            sorted = Arrays.copyOf(samples, size);
+        }
+        Arrays.sort(sorted);
+
+        long[] values = new long[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            if (percentiles[i] <= 0 || percentiles[i] > 100) {
+                throw new IllegalArgumentException("Percentile must be in (0, 100]");
+            }
+            if (sorted.length > 0) {
+                // Nearest-rank method
+                int rank = (int) Math.ceil(percentiles[i] / 100 * sorted.length);
+                values[i] = sorted[Math.max(rank, 1) - 1];
+            }
+        }
+        return values;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.edubook.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.edubook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.edubook.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
@@ -20,10 +21,15 @@ import seedu.edubook.logic.commands.HelpCommand;
 import seedu.edubook.logic.commands.LabelCommand;
 import seedu.edubook.logic.commands.ListCommand;
 import seedu.edubook.logic.commands.MarkCommand;
+import seedu.edubook.logic.commands.MetricsCommand;
+import seedu.edubook.logic.commands.RedoCommand;
+import seedu.edubook.logic.commands.StatsCommand;
 import seedu.edubook.logic.commands.UnassignCommand;
+import seedu.edubook.logic.commands.UndoCommand;
 import seedu.edubook.logic.commands.UnlabelCommand;
 import seedu.edubook.logic.commands.UnmarkCommand;
 import seedu.edubook.logic.commands.ViewCommand;
+import seedu.edubook.logic.metrics.CommandMetrics;
 import seedu.edubook.logic.parser.exceptions.ParseException;
 
 /**
@@ -37,6 +43,32 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final CommandMetrics metrics;
+
+    /**
+     * Creates an {@code AddressBookParser} whose {@code metrics} command shows metrics that are never recorded.
+     */
+    public AddressBookParser() {
+        this(new CommandMetrics());
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} whose {@code metrics} command shows {@code metrics}.
+     */
+    public AddressBookParser(CommandMetrics metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the command word of {@code userInput} in lowercase, as matched by {@link #parseCommand(String)},
+     * or an empty string if there is none.
+     */
+    public static String getCommandWord(String userInput) {
+        String[] words = userInput.trim().split("\\s+", 2);
+        return words[0].toLowerCase();
+    }
+
     /**
      * Parses user input into command for execution.
      * <p>
@@ -111,6 +143,18 @@ public class AddressBookParser {
         case UnmarkCommand.COMMAND_WORD:
             return new UnmarkCommandParser().parse(arguments);
 
+        case MetricsCommand.COMMAND_WORD:
+            return new MetricsCommand(metrics);
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommandParser().parse(arguments);
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -18,6 +18,7 @@ import seedu.edubook.model.person.PersonName;
 import seedu.edubook.model.person.Phone;
 import seedu.edubook.model.person.TuitionClass;
 import seedu.edubook.model.tag.Tag;
+import seedu.edubook.model.util.ValuePools;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -81,7 +82,7 @@ public class ParserUtil {
             throw new ParseException(AssignmentName.MESSAGE_CONSTRAINTS);
         }
 
-        return new AssignmentName(trimmedName);
+        return ValuePools.ASSIGNMENT_NAMES.intern(trimmedName);
     }
 
     /**
@@ -115,7 +116,7 @@ public class ParserUtil {
             throw new ParseException(Label.MESSAGE_CONSTRAINTS);
         }
 
-        return new Label(trimmedLabel);
+        return ValuePools.LABELS.intern(trimmedLabel);
     }
 
     /**
@@ -159,7 +160,7 @@ public class ParserUtil {
             throw new ParseException(TuitionClass.MESSAGE_CONSTRAINTS);
         }
 
-        return new TuitionClass(trimmedClass);
+        return ValuePools.TUITION_CLASSES.intern(trimmedClass);
     }
 
     /**
@@ -199,7 +200,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return ValuePools.TAGS.intern(trimmedTag);
     }
 
     /**
@@ -0,0 +1,41 @@
+package seedu.edubook.logic.parser;
+
+import static seedu.edubook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.edubook.logic.parser.CliSyntax.PREFIX_ASSIGNMENT_NAME;
+import static seedu.edubook.logic.parser.CliSyntax.PREFIX_CLASS;
+
+import java.util.Optional;
+
+import seedu.edubook.logic.commands.StatsCommand;
+import seedu.edubook.logic.parser.exceptions.ParseException;
+import seedu.edubook.model.assignment.AssignmentName;
+import seedu.edubook.model.person.TuitionClass;
+
+/**
+ * Parses input arguments and creates a new StatsCommand object
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StatsCommand
+     * and returns a StatsCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public StatsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CLASS, PREFIX_ASSIGNMENT_NAME);
+
+        Optional<String> classValue = argMultimap.getValue(PREFIX_CLASS);
+        Optional<String> assignmentValue = argMultimap.getValue(PREFIX_ASSIGNMENT_NAME);
+        if (!argMultimap.getPreamble().isEmpty() || (classValue.isEmpty() && assignmentValue.isEmpty())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CLASS, PREFIX_ASSIGNMENT_NAME);
+
+        TuitionClass tuitionClass = classValue.isPresent() ? ParserUtil.parseClass(classValue.get()) : null;
+        AssignmentName assignmentName = assignmentValue.isPresent()
+                ? ParserUtil.parseAssignmentName(assignmentValue.get())
+                : null;
+        return new StatsCommand(tuitionClass, assignmentName);
+    }
+}
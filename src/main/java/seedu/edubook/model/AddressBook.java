@@ -7,7 +7,10 @@ import java.util.List;
 import javafx.collections.ObservableList;
 import seedu.edubook.commons.util.ToStringBuilder;
 import seedu.edubook.model.person.Person;
+import seedu.edubook.model.person.PersonName;
 import seedu.edubook.model.person.UniquePersonList;
+import seedu.edubook.model.person.exceptions.PersonNotFoundException;
+import seedu.edubook.model.util.PersistentList;
 
 /**
  * Wraps all data at the address-book level
@@ -16,6 +19,7 @@ import seedu.edubook.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private long modificationCount = 0;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,6 +50,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        modificationCount++;
     }
 
     /**
@@ -54,6 +59,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook otherAddressBook) {
+            // Shares the snapshot of the other address book instead of rebuilding it
+            persons.setPersons(otherAddressBook.persons);
+            modificationCount++;
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
@@ -67,23 +78,39 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person in the address book whose name is equivalent to {@code name}.
+     *
+     * @throws PersonNotFoundException if there is no such person.
+     */
+    public Person getPerson(PersonName name) throws PersonNotFoundException {
+        requireNonNull(name);
+        return persons.get(name);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        modificationCount++;
     }
 
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * The modification count is unchanged if {@code editedPerson} is identical to {@code target}.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
+        PersistentList<Person> before = persons.getSnapshot();
         persons.setPerson(target, editedPerson);
+        if (persons.getSnapshot() != before) {
+            modificationCount++;
+        }
     }
 
     /**
@@ -92,6 +119,53 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of times the persons in this address book have been modified since it was created.
+     * The count only ever increases, so a component can tell that nothing has changed since it last looked at
+     * the address book if the count is the same.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    //// snapshots
+
+    /**
+     * Returns the persons currently in this address book, in order. Takes constant time, and later modifications of
+     * this address book do not affect the snapshot.
+     */
+    PersistentList<Person> getSnapshot() {
+        return persons.getSnapshot();
+    }
+
+    /**
+     * Replaces the persons in this address book with those of {@code snapshot}, taken by {@link #getSnapshot()}.
+     */
+    void restore(PersistentList<Person> snapshot) {
+        persons.restore(snapshot);
+        modificationCount++;
+    }
+
+    //// batch operations
+
+    /**
+     * Starts a batch of modifications to the person list.
+     * Listeners of {@link #getPersonList()} are notified of all modifications in the batch as a single change when the
+     * outermost batch ends.
+     */
+    public void beginBatch() {
+        persons.beginBatch();
+    }
+
+    /**
+     * Ends the current batch of modifications to the person list.
+     * Every call must be paired with an earlier call to {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        persons.endBatch();
     }
 
     //// util methods
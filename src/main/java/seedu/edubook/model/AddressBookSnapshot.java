@@ -0,0 +1,58 @@
+package seedu.edubook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.edubook.commons.util.ToStringBuilder;
+import seedu.edubook.model.person.Person;
+import seedu.edubook.model.util.PersistentList;
+
+/**
+ * A read-only address book holding the persons of an {@link AddressBook} at one point in time.
+ * Taking a snapshot costs constant time, as it shares the address book's {@link PersistentList}. The person list
+ * is only built when it is read, which can then happen on another thread.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentList<Person> persons;
+
+    AddressBookSnapshot(PersistentList<Person> persons) {
+        this.persons = requireNonNull(persons);
+    }
+
+    /**
+     * Returns an unmodifiable list of the persons, built from the snapshot in {@code O(n)} time on every call.
+     */
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(persons.toList()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return persons.equals(otherSnapshot.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+}
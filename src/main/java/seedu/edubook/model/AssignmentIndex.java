@@ -0,0 +1,86 @@
+package seedu.edubook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.edubook.model.assignment.AssignmentName;
+import seedu.edubook.model.assignment.AssignmentSet;
+import seedu.edubook.model.person.Person;
+import seedu.edubook.model.person.PersonName;
+
+/**
+ * Inverted index from an assignment name to the persons who hold that assignment.
+ * Holders of each assignment are keyed by name, so they are kept in the order they were added and edits keep a
+ * person's position.
+ */
+class AssignmentIndex extends PersonListIndex {
+
+    private final Map<AssignmentName, Map<PersonName, Person>> holdersByAssignment = new HashMap<>();
+
+    /**
+     * Returns the persons holding an assignment named {@code assignmentName}, or an empty list if there are none.
+     */
+    List<Person> getPersons(AssignmentName assignmentName) {
+        requireNonNull(assignmentName);
+        Map<PersonName, Person> holders = holdersByAssignment.get(assignmentName);
+        return holders == null ? List.of() : List.copyOf(holders.values());
+    }
+
+    /**
+     * Returns the number of persons holding an assignment named {@code assignmentName}.
+     */
+    int countPersons(AssignmentName assignmentName) {
+        requireNonNull(assignmentName);
+        Map<PersonName, Person> holders = holdersByAssignment.get(assignmentName);
+        return holders == null ? 0 : holders.size();
+    }
+
+    @Override
+    protected void addPerson(Person person) {
+        AssignmentSet assignments = person.getAssignmentSet();
+        for (int id = assignments.nextAssigned(0); id >= 0; id = assignments.nextAssigned(id + 1)) {
+            holdersByAssignment.computeIfAbsent(assignments.getName(id), unused -> new LinkedHashMap<>())
+                    .put(person.getName(), person);
+        }
+    }
+
+    @Override
+    protected void removePerson(Person person) {
+        AssignmentSet assignments = person.getAssignmentSet();
+        for (int id = assignments.nextAssigned(0); id >= 0; id = assignments.nextAssigned(id + 1)) {
+            removeHolder(assignments.getName(id), person.getName());
+        }
+    }
+
+    @Override
+    protected void replacePerson(Person target, Person editedPerson) {
+        if (!target.getName().equals(editedPerson.getName())) {
+            super.replacePerson(target, editedPerson);
+            return;
+        }
+
+        AssignmentSet assignments = target.getAssignmentSet();
+        AssignmentSet editedAssignments = editedPerson.getAssignmentSet();
+        for (int id = assignments.nextAssigned(0); id >= 0; id = assignments.nextAssigned(id + 1)) {
+            if (!editedAssignments.isAssigned(id)) {
+                removeHolder(assignments.getName(id), target.getName());
+            }
+        }
+        // Re-putting an existing key keeps its position in the holders map.
+        addPerson(editedPerson);
+    }
+
+    private void removeHolder(AssignmentName assignmentName, PersonName personName) {
+        Map<PersonName, Person> holders = holdersByAssignment.get(assignmentName);
+        assert holders != null;
+
+        holders.remove(personName);
+        if (holders.isEmpty()) {
+            holdersByAssignment.remove(assignmentName);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.edubook.model;
+
+import seedu.edubook.commons.util.ToStringBuilder;
+
+/**
+ * The number of students who have been assigned an assignment, and how many of them have done it.
+ * Guarantees: immutable; {@code 0 <= doneCount <= assignedCount}.
+ */
+public class CompletionStats {
+
+    public static final CompletionStats EMPTY = new CompletionStats(0, 0);
+
+    private final int assignedCount;
+    private final int doneCount;
+
+    /**
+     * Constructs a {@code CompletionStats}.
+     */
+    public CompletionStats(int assignedCount, int doneCount) {
+        if (doneCount < 0 || doneCount > assignedCount) {
+            throw new IllegalArgumentException("Done count must be between 0 and the assigned count");
+        }
+        this.assignedCount = assignedCount;
+        this.doneCount = doneCount;
+    }
+
+    public int getAssignedCount() {
+        return assignedCount;
+    }
+
+    public int getDoneCount() {
+        return doneCount;
+    }
+
+    /**
+     * Returns the number of students who have been assigned the assignment but have not done it.
+     */
+    public int getOutstandingCount() {
+        return assignedCount - doneCount;
+    }
+
+    /**
+     * Returns the totals of these and {@code other} stats.
+     */
+    public CompletionStats plus(CompletionStats other) {
+        return new CompletionStats(assignedCount + other.assignedCount, doneCount + other.doneCount);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CompletionStats)) {
+            return false;
+        }
+
+        CompletionStats otherStats = (CompletionStats) other;
+        return assignedCount == otherStats.assignedCount && doneCount == otherStats.doneCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * assignedCount + doneCount;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("assigned", assignedCount)
+                .add("done", doneCount)
+                .toString();
+    }
+}
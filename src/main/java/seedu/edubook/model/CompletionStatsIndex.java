@@ -0,0 +1,226 @@
+package seedu.edubook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import javafx.collections.ObservableList;
+import seedu.edubook.model.assignment.AssignmentDictionary;
+import seedu.edubook.model.assignment.AssignmentName;
+import seedu.edubook.model.assignment.AssignmentSet;
+import seedu.edubook.model.person.Person;
+import seedu.edubook.model.person.TuitionClass;
+
+/**
+ * Counts, for each tuition class and assignment, how many students in the class have been assigned the assignment
+ * and how many of them have done it.
+ * Counts are kept in arrays indexed by the numbers of {@link AssignmentDictionary}, so a single count is looked up
+ * in constant time however large the roster is, and each change to a person only touches that person's assignments.
+ * Each assignment is named as one of the students in the class spells it. When the last student with that spelling
+ * leaves, the name is taken again from the remaining students the next time the class is read.
+ */
+class CompletionStatsIndex extends PersonListIndex {
+
+    private static final Comparator<TuitionClass> CLASS_ORDER =
+            Comparator.comparing(TuitionClass::toString, String.CASE_INSENSITIVE_ORDER);
+    private static final Comparator<AssignmentName> ASSIGNMENT_ORDER =
+            Comparator.comparing(AssignmentName::toString, String.CASE_INSENSITIVE_ORDER);
+
+    private final Map<TuitionClass, ClassCounts> countsByClass = new HashMap<>();
+    private List<Person> persons = List.of();
+
+    /**
+     * Returns the counts for {@code assignmentName} in {@code tuitionClass}, which are zero if no student in the
+     * class has been assigned it.
+     */
+    CompletionStats getStats(TuitionClass tuitionClass, AssignmentName assignmentName) {
+        requireNonNull(tuitionClass);
+        requireNonNull(assignmentName);
+        ClassCounts counts = countsByClass.get(tuitionClass);
+        int id = AssignmentDictionary.findId(assignmentName);
+        return counts == null || id == AssignmentDictionary.NOT_FOUND ? CompletionStats.EMPTY : counts.getStats(id);
+    }
+
+    /**
+     * Returns the counts for each assignment assigned to a student in {@code tuitionClass}, ordered by name.
+     * The result is empty if there is no student in the class.
+     */
+    SortedMap<AssignmentName, CompletionStats> getStatsByAssignment(TuitionClass tuitionClass) {
+        requireNonNull(tuitionClass);
+        SortedMap<AssignmentName, CompletionStats> statsByAssignment = new TreeMap<>(ASSIGNMENT_ORDER);
+        ClassCounts counts = countsByClass.get(tuitionClass);
+        if (counts == null) {
+            return statsByAssignment;
+        }
+
+        if (counts.hasUnnamedAssignments) {
+            refreshNames(tuitionClass, counts);
+        }
+        for (int id = 0; id < counts.assigned.length; id++) {
+            if (counts.assigned[id] > 0) {
+                statsByAssignment.put(counts.names[id], counts.getStats(id));
+            }
+        }
+        return statsByAssignment;
+    }
+
+    /**
+     * Returns the counts for {@code assignmentName} in each class with a student assigned it, ordered by class.
+     */
+    SortedMap<TuitionClass, CompletionStats> getStatsByClass(AssignmentName assignmentName) {
+        requireNonNull(assignmentName);
+        SortedMap<TuitionClass, CompletionStats> statsByClass = new TreeMap<>(CLASS_ORDER);
+        int id = AssignmentDictionary.findId(assignmentName);
+        if (id == AssignmentDictionary.NOT_FOUND) {
+            return statsByClass;
+        }
+
+        countsByClass.forEach((tuitionClass, counts) -> {
+            CompletionStats stats = counts.getStats(id);
+            if (stats.getAssignedCount() > 0) {
+                statsByClass.put(tuitionClass, stats);
+            }
+        });
+        return statsByClass;
+    }
+
+    @Override
+    void attachTo(ObservableList<Person> persons) {
+        this.persons = persons;
+        super.attachTo(persons);
+    }
+
+    /**
+     * Names each assignment of {@code counts} whose name was dropped, from the students of {@code tuitionClass}.
+     */
+    private void refreshNames(TuitionClass tuitionClass, ClassCounts counts) {
+        boolean[] isUnnamed = new boolean[counts.assigned.length];
+        for (int id = 0; id < isUnnamed.length; id++) {
+            isUnnamed[id] = counts.assigned[id] > 0 && counts.names[id] == null;
+        }
+
+        for (Person person : persons) {
+            if (!person.getTuitionClass().equals(tuitionClass)) {
+                continue;
+            }
+            AssignmentSet assignments = person.getAssignmentSet();
+            for (int id = assignments.nextAssigned(0); id >= 0; id = assignments.nextAssigned(id + 1)) {
+                if (id < isUnnamed.length && isUnnamed[id]) {
+                    counts.addNameHolder(id, assignments.getName(id));
+                }
+            }
+        }
+        counts.hasUnnamedAssignments = false;
+    }
+
+    @Override
+    protected void addPerson(Person person) {
+        countsByClass.computeIfAbsent(person.getTuitionClass(), unused -> new ClassCounts())
+                .update(person.getAssignmentSet(), 1);
+    }
+
+    @Override
+    protected void removePerson(Person person) {
+        ClassCounts counts = countsByClass.get(person.getTuitionClass());
+        assert counts != null;
+
+        counts.update(person.getAssignmentSet(), -1);
+        if (counts.studentCount == 0) {
+            countsByClass.remove(person.getTuitionClass());
+        }
+    }
+
+    /**
+     * The counts of one class, indexed by assignment number.
+     * The arrays are as long as the highest number assigned in the class requires, give or take a factor of two.
+     */
+    private static class ClassCounts {
+        private int studentCount = 0;
+        private int[] assigned = new int[0];
+        private int[] done = new int[0];
+        // The spelling of each assignment assigned in the class, or null if it is not assigned or the last student
+        // with that spelling has left
+        private AssignmentName[] names = new AssignmentName[0];
+        // The number of students in the class known to spell each assignment as in names
+        private int[] nameHolderCounts = new int[0];
+        private boolean hasUnnamedAssignments = false;
+
+        private CompletionStats getStats(int id) {
+            return id < assigned.length ? new CompletionStats(assigned[id], done[id]) : CompletionStats.EMPTY;
+        }
+
+        /**
+         * Adds {@code delta} to the counts of each assignment in {@code assignments}, for a student joining
+         * ({@code 1}) or leaving ({@code -1}) the class.
+         */
+        private void update(AssignmentSet assignments, int delta) {
+            studentCount += delta;
+            for (int id = assignments.nextAssigned(0); id >= 0; id = assignments.nextAssigned(id + 1)) {
+                if (id >= assigned.length) {
+                    resize(Math.max(id + 1, assigned.length * 2));
+                }
+                if (delta > 0) {
+                    addNameHolder(id, assignments.getName(id));
+                } else {
+                    removeNameHolder(id, assignments.getName(id));
+                }
+                assigned[id] += delta;
+                if (assignments.isDone(id)) {
+                    done[id] += delta;
+                }
+                if (assigned[id] == 0) {
+                    names[id] = null;
+                    nameHolderCounts[id] = 0;
+                } else if (names[id] == null) {
+                    hasUnnamedAssignments = true;
+                }
+            }
+
+            if (delta < 0) {
+                int usedLength = assigned.length;
+                while (usedLength > 0 && assigned[usedLength - 1] == 0) {
+                    usedLength--;
+                }
+                if (usedLength <= assigned.length / 2) {
+                    resize(usedLength);
+                }
+            }
+        }
+
+        /**
+         * Records a student spelling the assignment numbered {@code id} as {@code name}, which becomes the name of
+         * the assignment if it has none.
+         */
+        private void addNameHolder(int id, AssignmentName name) {
+            if (names[id] == null) {
+                names[id] = name;
+                nameHolderCounts[id] = 1;
+            } else if (names[id].fullName.equals(name.fullName)) {
+                nameHolderCounts[id]++;
+            }
+        }
+
+        /**
+         * Records a student spelling the assignment numbered {@code id} as {@code name} leaving, which drops the
+         * name of the assignment if no other student is known to spell it that way.
+         */
+        private void removeNameHolder(int id, AssignmentName name) {
+            if (names[id] != null && names[id].fullName.equals(name.fullName) && --nameHolderCounts[id] == 0) {
+                names[id] = null;
+            }
+        }
+
+        private void resize(int length) {
+            assigned = Arrays.copyOf(assigned, length);
+            done = Arrays.copyOf(done, length);
+            names = Arrays.copyOf(names, length);
+            nameHolderCounts = Arrays.copyOf(nameHolderCounts, length);
+        }
+    }
+}
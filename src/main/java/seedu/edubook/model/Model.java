@@ -1,7 +1,9 @@
 package seedu.edubook.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.SortedMap;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -57,6 +59,19 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the persons currently in the AddressBook, unaffected by later changes to it.
+     * Takes constant time, so that the AddressBook can be handed to another thread without being copied.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Returns the number of times the AddressBook has been modified.
+     *
+     * @see AddressBook#getModificationCount()
+     */
+    long getModificationCount();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -91,14 +106,30 @@ public interface Model {
      */
     Person findPersonByName(PersonName target) throws PersonNotFoundException;
 
+    /**
+     * Finds all persons whose name contains any of the specified keywords as a whole word, ignoring case.
+     *
+     * @param keywords The words to look for.
+     * @return a list of the matching persons, without duplicates.
+     */
+    List<Person> findPersonsByNameKeywords(Collection<String> keywords);
+
     /**
      * Finds all persons belonging to the specified class.
      *
      * @param tuitionClass The class to filter by.
-     * @return a list of persons in the specified class.
+     * @return a list of persons in the specified class, in the order of the address book.
      */
     List<Person> findPersonsByClass(TuitionClass tuitionClass);
 
+    /**
+     * Returns the number of persons belonging to the specified class, without building a list of them.
+     *
+     * @param tuitionClass The class to count.
+     * @return the number of persons in the specified class.
+     */
+    int countPersonsByClass(TuitionClass tuitionClass);
+
     /**
      * Finds all persons with the specified assignment name.
      *
@@ -107,6 +138,77 @@ public interface Model {
      */
     List<Person> findPersonsByAssignmentName(AssignmentName assignmentName);
 
+    /**
+     * Returns the number of persons with the specified assignment name, without scanning the address book.
+     *
+     * @param assignmentName The name of the assignment to count.
+     * @return the number of persons with the specified assignment name.
+     */
+    int countPersonsWithAssignment(AssignmentName assignmentName);
+
+    /**
+     * Returns how many students in {@code tuitionClass} have been assigned {@code assignmentName}, and how many of
+     * them have done it, without scanning the address book.
+     */
+    CompletionStats getCompletionStats(TuitionClass tuitionClass, AssignmentName assignmentName);
+
+    /**
+     * Returns the completion stats of each assignment assigned to a student in {@code tuitionClass},
+     * ordered by assignment name. The result is empty if there is no student in the class.
+     */
+    SortedMap<AssignmentName, CompletionStats> getCompletionStatsByAssignment(TuitionClass tuitionClass);
+
+    /**
+     * Returns the completion stats of {@code assignmentName} in each class with a student assigned it,
+     * ordered by class.
+     */
+    SortedMap<TuitionClass, CompletionStats> getCompletionStatsByClass(AssignmentName assignmentName);
+
+    /**
+     * Starts a batch of modifications to the address book.
+     * Edits made until the matching {@link #endBatch()} are applied immediately, but are published to observers of
+     * the person list as a single change. Batches may be nested.
+     * <p>
+     * The indexes behind {@link #findPersonsByNameKeywords}, {@link #findPersonsByClass},
+     * {@link #countPersonsByClass}, {@link #findPersonsByAssignmentName}, {@link #countPersonsWithAssignment} and the
+     * {@code getCompletionStats} methods observe the person list, so they are only brought up to date when the
+     * outermost batch ends, and must not be called during a batch. {@link #hasPerson} and {@link #findPersonByName}
+     * are always up to date.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the current batch of modifications to the address book.
+     * Every call must be paired with an earlier call to {@link #beginBatch()}, typically in a {@code finally} block.
+     */
+    void endBatch();
+
+    /**
+     * Returns true if the model has a previous address book state to restore.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if the model has an undone address book state to restore.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the model's address book to its previous state.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the model's address book to its previously undone state.
+     */
+    void redoAddressBook();
+
+    /**
+     * Saves the current address book state for undo/redo. Does nothing if it has not changed since the last state
+     * saved or restored.
+     */
+    void commitAddressBook();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
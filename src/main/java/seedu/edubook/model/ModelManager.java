@@ -4,7 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.edubook.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.SortedMap;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -24,21 +26,38 @@ import seedu.edubook.model.person.exceptions.PersonNotFoundException;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final TuitionClassIndex tuitionClassIndex = new TuitionClassIndex();
+    private final AssignmentIndex assignmentIndex = new AssignmentIndex();
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+    private final CompletionStatsIndex completionStatsIndex = new CompletionStatsIndex();
+    private int batchDepth = 0;
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with the given addressBook and userPrefs, keeping up to {@code historyDepth}
+     * earlier states of the address book for undo.
      */
-    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, int historyDepth) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine("Initializing with " + addressBook.getPersonList().size() + " persons and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = new VersionedAddressBook(addressBook, historyDepth);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        tuitionClassIndex.attachTo(this.addressBook.getPersonList());
+        assignmentIndex.attachTo(this.addressBook.getPersonList());
+        nameTokenIndex.attachTo(this.addressBook.getPersonList());
+        completionStatsIndex.attachTo(this.addressBook.getPersonList());
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, and the default history depth.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, userPrefs, VersionedAddressBook.DEFAULT_HISTORY_DEPTH);
     }
 
     public ModelManager() {
@@ -87,11 +106,21 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public long getModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return new AddressBookSnapshot(addressBook.getSnapshot());
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -118,33 +147,108 @@ public class ModelManager implements Model {
 
     @Override
     public Person findPersonByName(PersonName target) throws PersonNotFoundException {
-        requireAllNonNull(target);
+        requireNonNull(target);
+        return addressBook.getPerson(target);
+    }
 
-        return this.addressBook.getPersonList()
-                .stream()
-                .filter(p -> p.getName().equals(target))
-                .findFirst()
-                .orElseThrow(PersonNotFoundException::new);
+    @Override
+    public List<Person> findPersonsByNameKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        assertIndexesUpToDate();
+        return nameTokenIndex.getPersons(keywords);
     }
 
     @Override
     public List<Person> findPersonsByClass(TuitionClass tuitionClass) {
         requireNonNull(tuitionClass);
-        return this.addressBook.getPersonList()
-                .stream()
-                .filter(p -> p.getTuitionClass().equals(tuitionClass))
-                .toList();
+        assertIndexesUpToDate();
+        return tuitionClassIndex.getPersons(tuitionClass);
+    }
+
+    @Override
+    public int countPersonsByClass(TuitionClass tuitionClass) {
+        requireNonNull(tuitionClass);
+        assertIndexesUpToDate();
+        return tuitionClassIndex.countPersons(tuitionClass);
     }
 
     @Override
     public List<Person> findPersonsByAssignmentName(AssignmentName assignmentName) {
         requireNonNull(assignmentName);
-        return this.addressBook.getPersonList()
-                .stream()
-                .filter(p -> p.getAssignments()
-                        .stream()
-                        .anyMatch(assignment -> assignment.hasName(assignmentName)))
-                .toList();
+        assertIndexesUpToDate();
+        return assignmentIndex.getPersons(assignmentName);
+    }
+
+    @Override
+    public int countPersonsWithAssignment(AssignmentName assignmentName) {
+        requireNonNull(assignmentName);
+        assertIndexesUpToDate();
+        return assignmentIndex.countPersons(assignmentName);
+    }
+
+    @Override
+    public CompletionStats getCompletionStats(TuitionClass tuitionClass, AssignmentName assignmentName) {
+        assertIndexesUpToDate();
+        return completionStatsIndex.getStats(tuitionClass, assignmentName);
+    }
+
+    @Override
+    public SortedMap<AssignmentName, CompletionStats> getCompletionStatsByAssignment(TuitionClass tuitionClass) {
+        assertIndexesUpToDate();
+        return completionStatsIndex.getStatsByAssignment(tuitionClass);
+    }
+
+    @Override
+    public SortedMap<TuitionClass, CompletionStats> getCompletionStatsByClass(AssignmentName assignmentName) {
+        assertIndexesUpToDate();
+        return completionStatsIndex.getStatsByClass(assignmentName);
+    }
+
+    @Override
+    public void beginBatch() {
+        addressBook.beginBatch();
+        batchDepth++;
+    }
+
+    @Override
+    public void endBatch() {
+        assert batchDepth > 0;
+        batchDepth--;
+        addressBook.endBatch();
+    }
+
+    /**
+     * Asserts that no batch is in progress, as the indexes are only brought up to date when the outermost batch ends.
+     */
+    private void assertIndexesUpToDate() {
+        assert batchDepth == 0 : "Indexes are not up to date during a batch";
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.undo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.redo();
+    }
+
+    @Override
+    public void commitAddressBook() {
+        addressBook.commit();
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -0,0 +1,78 @@
+package seedu.edubook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.edubook.model.person.Person;
+import seedu.edubook.model.person.PersonName;
+
+/**
+ * Inverted index from each word in a person's name, in lower case, to the persons whose name contains that word.
+ * Persons sharing a word are keyed by name, so edits that keep a person's name keep the person's position.
+ */
+class NameTokenIndex extends PersonListIndex {
+
+    private static final String TOKEN_SEPARATOR = " ";
+
+    private final Map<String, Map<PersonName, Person>> personsByToken = new HashMap<>();
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a whole word, ignoring case.
+     * Each person appears once, even if their name contains several of the keywords.
+     */
+    List<Person> getPersons(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Map<PersonName, Person> matches = new LinkedHashMap<>();
+        for (String keyword : keywords) {
+            Map<PersonName, Person> persons = personsByToken.get(keyword.trim().toLowerCase());
+            if (persons != null) {
+                matches.putAll(persons);
+            }
+        }
+        return List.copyOf(matches.values());
+    }
+
+    @Override
+    protected void addPerson(Person person) {
+        for (String token : tokenize(person.getName())) {
+            personsByToken.computeIfAbsent(token, unused -> new LinkedHashMap<>()).put(person.getName(), person);
+        }
+    }
+
+    @Override
+    protected void removePerson(Person person) {
+        for (String token : tokenize(person.getName())) {
+            Map<PersonName, Person> persons = personsByToken.get(token);
+            assert persons != null;
+
+            persons.remove(person.getName());
+            if (persons.isEmpty()) {
+                personsByToken.remove(token);
+            }
+        }
+    }
+
+    @Override
+    protected void replacePerson(Person target, Person editedPerson) {
+        if (!target.getName().fullName.equals(editedPerson.getName().fullName)) {
+            super.replacePerson(target, editedPerson);
+            return;
+        }
+
+        // Re-putting an existing key keeps its position in each map.
+        addPerson(editedPerson);
+    }
+
+    /**
+     * Returns the words in {@code name}, in lower case.
+     * Names only hold alphanumeric characters separated by single spaces, so no further normalization is needed.
+     */
+    private static String[] tokenize(PersonName name) {
+        return name.getNormalizedName().split(TOKEN_SEPARATOR);
+    }
+}
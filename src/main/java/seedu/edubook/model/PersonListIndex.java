@@ -0,0 +1,115 @@
+package seedu.edubook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.edubook.model.person.Person;
+
+/**
+ * A secondary index over a list of persons that is kept up to date incrementally by listening to the list's changes.
+ * Subclasses only need to describe how a single person enters and leaves the index.
+ */
+abstract class PersonListIndex implements ListChangeListener<Person> {
+
+    /**
+     * Indexes every person currently in {@code persons} and starts tracking subsequent changes to it.
+     */
+    void attachTo(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::addPerson);
+        persons.addListener(this);
+    }
+
+    /**
+     * Updates the index with {@code change}. A change that replaces a single person is passed to
+     * {@link #replacePerson(Person, Person, List, int)}. Otherwise, every person removed by the change leaves the index
+     * before any person is added, as a person added by one part of the change may share the name of a person removed
+     * by a later part, such as when an undone rename is restored.
+     */
+    @Override
+    public void onChanged(Change<? extends Person> change) {
+        List<? extends Person> persons = change.getList();
+        if (isSingleReplacement(change)) {
+            change.next();
+            replacePerson(change.getRemoved().get(0), change.getAddedSubList().get(0), persons, change.getFrom());
+            return;
+        }
+
+        while (change.next()) {
+            change.getRemoved().forEach(this::removePerson);
+        }
+        change.reset();
+        while (change.next()) {
+            List<? extends Person> added = change.getAddedSubList();
+            if (change.getTo() == persons.size()) {
+                added.forEach(this::addPerson);
+            } else {
+                for (int i = 0; i < added.size(); i++) {
+                    addPerson(added.get(i), persons, change.getFrom() + i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code change} consists of one person being replaced by another, and leaves it reset.
+     */
+    private static boolean isSingleReplacement(Change<? extends Person> change) {
+        boolean isReplacement = change.next() && change.getRemovedSize() == 1 && change.getAddedSize() == 1;
+        boolean isSingle = !change.next();
+        change.reset();
+        return isReplacement && isSingle;
+    }
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    protected abstract void addPerson(Person person);
+
+    /**
+     * Adds {@code person}, which was inserted at {@code index} of {@code persons} before persons already in the index.
+     * {@code persons} is the list being indexed, and everything before {@code index} in it is already in the index.
+     * Subclasses may override this to keep persons in the order of the list. By default, this calls
+     * {@link #addPerson(Person)}, which is otherwise only called for persons added at the end of the list.
+     */
+    protected void addPerson(Person person, List<? extends Person> persons, int index) {
+        addPerson(person);
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    protected abstract void removePerson(Person person);
+
+    /**
+     * Replaces {@code target} in the index with {@code editedPerson}.
+     * Subclasses may override this to keep the position of the edited person stable.
+     */
+    protected void replacePerson(Person target, Person editedPerson) {
+        removePerson(target);
+        addPerson(editedPerson);
+    }
+
+    /**
+     * Replaces {@code target}, which was at {@code index} of {@code persons}, with {@code editedPerson}.
+     * By default, this calls {@link #replacePerson(Person, Person)}.
+     */
+    protected void replacePerson(Person target, Person editedPerson, List<? extends Person> persons, int index) {
+        replacePerson(target, editedPerson);
+    }
+
+    /**
+     * Returns the position of {@code person} in {@code persons}, comparing by reference, or -1 if it is absent.
+     */
+    protected static int indexOfSame(List<Person> persons, Person person) {
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) == person) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.edubook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.edubook.model.person.Person;
+import seedu.edubook.model.person.TuitionClass;
+
+/**
+ * Indexes persons by the tuition class they belong to.
+ * Within each class, persons are kept in the order of the indexed list, so each class is listed in roster order.
+ */
+class TuitionClassIndex extends PersonListIndex {
+
+    private final Map<TuitionClass, List<Person>> personsByClass = new HashMap<>();
+
+    /**
+     * Returns the persons in {@code tuitionClass}, or an empty list if there are none.
+     */
+    List<Person> getPersons(TuitionClass tuitionClass) {
+        requireNonNull(tuitionClass);
+        List<Person> persons = personsByClass.get(tuitionClass);
+        return persons == null ? List.of() : List.copyOf(persons);
+    }
+
+    /**
+     * Returns the number of persons in {@code tuitionClass}.
+     */
+    int countPersons(TuitionClass tuitionClass) {
+        requireNonNull(tuitionClass);
+        List<Person> persons = personsByClass.get(tuitionClass);
+        return persons == null ? 0 : persons.size();
+    }
+
+    @Override
+    protected void addPerson(Person person) {
+        personsByClass.computeIfAbsent(person.getTuitionClass(), unused -> new ArrayList<>()).add(person);
+    }
+
+    @Override
+    protected void addPerson(Person person, List<? extends Person> persons, int index) {
+        List<Person> classPersons = personsByClass.computeIfAbsent(person.getTuitionClass(),
+                unused -> new ArrayList<>());
+        classPersons.add(findInsertionIndex(classPersons, persons, index), person);
+    }
+
+    @Override
+    protected void removePerson(Person person) {
+        List<Person> persons = personsByClass.get(person.getTuitionClass());
+        assert persons != null;
+
+        persons.remove(indexOfSame(persons, person));
+        if (persons.isEmpty()) {
+            personsByClass.remove(person.getTuitionClass());
+        }
+    }
+
+    @Override
+    protected void replacePerson(Person target, Person editedPerson, List<? extends Person> persons, int index) {
+        if (!target.getTuitionClass().equals(editedPerson.getTuitionClass())) {
+            removePerson(target);
+            addPerson(editedPerson, persons, index);
+            return;
+        }
+
+        List<Person> classPersons = personsByClass.get(target.getTuitionClass());
+        assert classPersons != null;
+        classPersons.set(indexOfSame(classPersons, target), editedPerson);
+    }
+
+    /**
+     * Returns where in {@code classPersons} to insert the person at {@code index} of {@code persons}, so that
+     * {@code classPersons} stays in the order of {@code persons}: just after the closest person before it in the
+     * same class.
+     */
+    private static int findInsertionIndex(List<Person> classPersons, List<? extends Person> persons, int index) {
+        if (classPersons.isEmpty()) {
+            return 0;
+        }
+
+        Person lastClassPerson = classPersons.get(classPersons.size() - 1);
+        TuitionClass tuitionClass = lastClassPerson.getTuitionClass();
+        for (int i = index - 1; i >= 0; i--) {
+            Person person = persons.get(i);
+            if (person == lastClassPerson) {
+                return classPersons.size();
+            }
+            if (person.getTuitionClass().equals(tuitionClass)) {
+                int classIndex = indexOfSame(classPersons, person);
+                assert classIndex >= 0;
+                return classIndex + 1;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.edubook.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.edubook.model.person.Person;
+import seedu.edubook.model.util.PersistentList;
+
+/**
+ * An {@code AddressBook} that keeps a history of its states, so that changes can be undone and redone.
+ * Each state is a snapshot of the person list that shares its structure with the other states, so committing a
+ * change to {@code k} persons keeps only {@code O(k log n)} more memory rather than a copy of all {@code n} persons.
+ * At most {@code historyDepth} states before the current one are kept; older states are dropped.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    public static final int DEFAULT_HISTORY_DEPTH = 20;
+
+    private final List<PersistentList<Person>> addressBookStateList = new ArrayList<>();
+    private final int historyDepth;
+    private int currentStatePointer;
+
+    /**
+     * Creates a {@code VersionedAddressBook} holding the persons in {@code initialState}, with no earlier states.
+     *
+     * @param historyDepth Maximum number of changes that can be undone in a row.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int historyDepth) {
+        super(initialState);
+        if (historyDepth < 0) {
+            throw new IllegalArgumentException("History depth must not be negative");
+        }
+        this.historyDepth = historyDepth;
+        addressBookStateList.add(getSnapshot());
+        currentStatePointer = 0;
+    }
+
+    /**
+     * Saves the current state in the history, discarding any undone states.
+     * Does nothing if the address book has not changed since the last state saved or restored.
+     */
+    public void commit() {
+        PersistentList<Person> currentState = getSnapshot();
+        if (currentState == addressBookStateList.get(currentStatePointer)) {
+            return;
+        }
+
+        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+        addressBookStateList.add(currentState);
+        currentStatePointer++;
+        if (addressBookStateList.size() > historyDepth + 1) {
+            addressBookStateList.remove(0);
+            currentStatePointer--;
+        }
+    }
+
+    /**
+     * Returns true if there is an earlier state to restore.
+     */
+    public boolean canUndo() {
+        return currentStatePointer > 0 || (hasUncommittedChanges() && historyDepth > 0);
+    }
+
+    /**
+     * Returns true if there is an undone state to restore.
+     */
+    public boolean canRedo() {
+        return currentStatePointer < addressBookStateList.size() - 1 && !hasUncommittedChanges();
+    }
+
+    /**
+     * Restores the state before the current one. Changes not yet committed are committed first, so that they can be
+     * redone.
+     */
+    public void undo() {
+        commit();
+        if (!canUndo()) {
+            throw new NoUndoableStateException();
+        }
+        currentStatePointer--;
+        restore(addressBookStateList.get(currentStatePointer));
+    }
+
+    /**
+     * Restores the state that was undone last.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new NoRedoableStateException();
+        }
+        currentStatePointer++;
+        restore(addressBookStateList.get(currentStatePointer));
+    }
+
+    /**
+     * Returns the number of states kept, including the current one.
+     */
+    public int getStateCount() {
+        return addressBookStateList.size();
+    }
+
+    private boolean hasUncommittedChanges() {
+        return getSnapshot() != addressBookStateList.get(currentStatePointer);
+    }
+
+    /**
+     * Thrown when trying to {@code undo()} but can't.
+     */
+    public static class NoUndoableStateException extends RuntimeException {
+        private NoUndoableStateException() {
+            super("Current state pointer at start of addressBookState list, unable to undo.");
+        }
+    }
+
+    /**
+     * Thrown when trying to {@code redo()} but can't.
+     */
+    public static class NoRedoableStateException extends RuntimeException {
+        private NoRedoableStateException() {
+            super("Current state pointer at end of addressBookState list, unable to redo.");
+        }
+    }
+}
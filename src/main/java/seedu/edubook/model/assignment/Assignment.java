@@ -4,11 +4,13 @@ import static java.util.Objects.requireNonNull;
 import static seedu.edubook.commons.util.AppUtil.checkArgument;
 import static seedu.edubook.model.commons.Name.MAX_NAME_LENGTH;
 
+import seedu.edubook.commons.util.ValidationUtil;
 import seedu.edubook.logic.commands.exceptions.AssignmentMarkedException;
 import seedu.edubook.logic.commands.exceptions.AssignmentUnmarkedException;
 
 /**
  * Represents an assignment in EduBook
+ * Guarantees: immutable; marking or unmarking an assignment returns a new {@code Assignment}
  */
 public class Assignment {
 
@@ -28,7 +30,7 @@ public class Assignment {
 
     public final AssignmentName assignmentName;
 
-    private boolean isDone;
+    private final boolean isDone;
 
     /**
      * Constructs an {@code Assignment}.
@@ -59,31 +61,31 @@ public class Assignment {
      * Returns true if a given string is a valid assignment name.
      */
     public static boolean isValidAssignment(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWithSpaces(test);
     }
 
     /**
-     * Marks the assignment as done.
+     * Returns a copy of this assignment that is marked as done.
      *
      * @throws AssignmentMarkedException if assignment is already marked.
      */
-    public void mark() throws AssignmentMarkedException {
+    public Assignment marked() throws AssignmentMarkedException {
         if (this.isDone) {
             throw new AssignmentMarkedException();
         }
-        this.isDone = true;
+        return new Assignment(assignmentName, true);
     }
 
     /**
-     * Unmarks the assignment as not done.
+     * Returns a copy of this assignment that is marked as not done.
      *
      * @throws AssignmentUnmarkedException if assignment is already unmarked.
      */
-    public void unmark() throws AssignmentUnmarkedException {
+    public Assignment unmarked() throws AssignmentUnmarkedException {
         if (!this.isDone) {
             throw new AssignmentUnmarkedException();
         }
-        this.isDone = false;
+        return new Assignment(assignmentName, false);
     }
 
     /**
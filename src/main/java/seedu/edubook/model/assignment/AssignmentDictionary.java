@@ -0,0 +1,71 @@
+package seedu.edubook.model.assignment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Numbers every assignment name in use, so that the assignments of a student can be held as bits of an
+ * {@link AssignmentSet} rather than as a set of objects.
+ * Names are numbered from 0 in the order they are first seen, and keep their number for the rest of the session.
+ * As names are compared case-insensitively, spellings of a name that differ only in case share a number.
+ * Each {@link AssignmentSet} keeps its own spelling of the names it holds, so {@link #getName(int)} is only the
+ * first spelling seen, and is not meant for display.
+ * Thread-safe.
+ */
+public class AssignmentDictionary {
+
+    public static final int NOT_FOUND = -1;
+
+    private static final Map<AssignmentName, Integer> idsByName = new ConcurrentHashMap<>();
+    private static final List<AssignmentName> namesById = new CopyOnWriteArrayList<>();
+
+    /**
+     * Returns the number of {@code assignmentName}, numbering it if it has not been seen before.
+     */
+    public static int getId(AssignmentName assignmentName) {
+        int id = findId(assignmentName);
+        return id != NOT_FOUND ? id : addName(assignmentName);
+    }
+
+    /**
+     * Returns the number of {@code assignmentName}, or {@link #NOT_FOUND} if it has not been seen before.
+     */
+    public static int findId(AssignmentName assignmentName) {
+        requireNonNull(assignmentName);
+        Integer id = idsByName.get(assignmentName);
+        return id == null ? NOT_FOUND : id;
+    }
+
+    /**
+     * Returns the assignment name numbered {@code id}.
+     *
+     * @throws IndexOutOfBoundsException if no name has that number.
+     */
+    public static AssignmentName getName(int id) {
+        return namesById.get(id);
+    }
+
+    /**
+     * Returns the number of names seen so far.
+     */
+    public static int size() {
+        return namesById.size();
+    }
+
+    private static synchronized int addName(AssignmentName assignmentName) {
+        Integer existingId = idsByName.get(assignmentName);
+        if (existingId != null) {
+            return existingId;
+        }
+
+        // The name is listed before it can be looked up, so that any id handed out can be resolved.
+        int id = namesById.size();
+        namesById.add(assignmentName);
+        idsByName.put(assignmentName, id);
+        return id;
+    }
+}
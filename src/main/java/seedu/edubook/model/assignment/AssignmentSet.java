@@ -0,0 +1,326 @@
+package seedu.edubook.model.assignment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * The assignments of a student, held as two bitsets over the numbers given by {@link AssignmentDictionary}:
+ * one with a bit set for each assignment assigned, and one with a bit set for each of those that is done.
+ * A student with a few dozen assignments out of a hundred names in use takes two small {@code long} arrays and
+ * an array of the names as this student spells them, rather than a set of {@link Assignment} objects.
+ * Guarantees: immutable; done assignments are always assigned.
+ */
+public class AssignmentSet {
+
+    public static final AssignmentSet EMPTY = new AssignmentSet(new long[0], new long[0], new AssignmentName[0]);
+
+    private static final int BITS_PER_WORD = Long.SIZE;
+
+    // Both arrays have the same length, with no trailing words that are zero in both, so equal sets have equal arrays
+    private final long[] assigned;
+    private final long[] done;
+    // The spelling of each assignment assigned, in order of number
+    private final AssignmentName[] names;
+
+    private AssignmentSet(long[] assigned, long[] done, AssignmentName[] names) {
+        this.assigned = assigned;
+        this.done = done;
+        this.names = names;
+    }
+
+    /**
+     * Returns the set holding {@code assignments}. Of assignments with the same name, only one is kept.
+     */
+    public static AssignmentSet of(Collection<Assignment> assignments) {
+        requireNonNull(assignments);
+        AssignmentSet assignmentSet = EMPTY;
+        for (Assignment assignment : assignments) {
+            int id = AssignmentDictionary.getId(assignment.assignmentName);
+            assignmentSet = assignmentSet.withAssigned(id, assignment.assignmentName, assignment.isDone());
+        }
+        return assignmentSet;
+    }
+
+    /**
+     * Returns true if the assignment numbered {@code id} is assigned.
+     */
+    public boolean isAssigned(int id) {
+        return id >= 0 && isSet(assigned, id);
+    }
+
+    /**
+     * Returns true if the assignment numbered {@code id} is assigned and done.
+     */
+    public boolean isDone(int id) {
+        return id >= 0 && isSet(done, id);
+    }
+
+    /**
+     * Returns the name of the assignment numbered {@code id}, which must be assigned, as this set spells it.
+     */
+    public AssignmentName getName(int id) {
+        assert isAssigned(id);
+        return names[rank(id)];
+    }
+
+    /**
+     * Returns a copy of this set where the assignment numbered {@code id} is assigned, with the given status,
+     * and is spelled {@code assignmentName}.
+     */
+    public AssignmentSet withAssigned(int id, AssignmentName assignmentName, boolean isDone) {
+        checkId(id);
+        requireNonNull(assignmentName);
+        long[] newAssigned = copyToFit(assigned, id);
+        long[] newDone = copyToFit(done, id);
+        newAssigned[wordIndex(id)] |= bit(id);
+        setBit(newDone, id, isDone);
+
+        int rank = rank(id);
+        AssignmentName[] newNames;
+        if (isAssigned(id)) {
+            newNames = names.clone();
+        } else {
+            newNames = new AssignmentName[names.length + 1];
+            System.arraycopy(names, 0, newNames, 0, rank);
+            System.arraycopy(names, rank, newNames, rank + 1, names.length - rank);
+        }
+        newNames[rank] = assignmentName;
+        return new AssignmentSet(newAssigned, newDone, newNames);
+    }
+
+    /**
+     * Returns a copy of this set without the assignment numbered {@code id}.
+     */
+    public AssignmentSet withRemoved(int id) {
+        if (!isAssigned(id)) {
+            return this;
+        }
+
+        int rank = rank(id);
+        AssignmentName[] newNames = new AssignmentName[names.length - 1];
+        System.arraycopy(names, 0, newNames, 0, rank);
+        System.arraycopy(names, rank + 1, newNames, rank, newNames.length - rank);
+
+        long[] newAssigned = assigned.clone();
+        long[] newDone = done.clone();
+        newAssigned[wordIndex(id)] &= ~bit(id);
+        newDone[wordIndex(id)] &= ~bit(id);
+        return trimmed(newAssigned, newDone, newNames);
+    }
+
+    /**
+     * Returns a copy of this set where the assignment numbered {@code id}, which must be assigned,
+     * has the given status. The assignment keeps its spelling.
+     */
+    public AssignmentSet withDone(int id, boolean isDone) {
+        assert isAssigned(id);
+        long[] newDone = done.clone();
+        setBit(newDone, id, isDone);
+        return new AssignmentSet(assigned, newDone, names);
+    }
+
+    /**
+     * Returns the number of the first assignment assigned that is numbered {@code fromId} or higher,
+     * or {@link AssignmentDictionary#NOT_FOUND} if there is none.
+     * Assignments can be visited without allocating with
+     * {@code for (int id = set.nextAssigned(0); id >= 0; id = set.nextAssigned(id + 1))}.
+     */
+    public int nextAssigned(int fromId) {
+        checkId(fromId);
+        int wordIndex = wordIndex(fromId);
+        if (wordIndex >= assigned.length) {
+            return AssignmentDictionary.NOT_FOUND;
+        }
+
+        long word = assigned[wordIndex] & (-1L << fromId);
+        while (word == 0) {
+            wordIndex++;
+            if (wordIndex == assigned.length) {
+                return AssignmentDictionary.NOT_FOUND;
+            }
+            word = assigned[wordIndex];
+        }
+        return wordIndex * BITS_PER_WORD + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Returns the number of assignments assigned.
+     */
+    public int size() {
+        return countBits(assigned);
+    }
+
+    /**
+     * Returns the number of assignments done.
+     */
+    public int countDone() {
+        return countBits(done);
+    }
+
+    public boolean isEmpty() {
+        return assigned.length == 0;
+    }
+
+    /**
+     * Returns the assignments in this set as a read-only set of {@link Assignment} objects, in order of number.
+     * The set is a view over this set, so nothing is copied until it is iterated, and each {@code Assignment} is
+     * created as it is reached.
+     */
+    public Set<Assignment> toAssignments() {
+        return new AssignmentsView();
+    }
+
+    /**
+     * Returns true if {@code other} is equal to this set and spells each assignment the same way.
+     */
+    public boolean isIdenticalTo(AssignmentSet other) {
+        if (!equals(other)) {
+            return false;
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (!names[i].fullName.equals(other.names[i].fullName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of assignments assigned that are numbered below {@code id}.
+     */
+    private int rank(int id) {
+        int wordIndex = wordIndex(id);
+        int rank = 0;
+        for (int i = 0; i < Math.min(wordIndex, assigned.length); i++) {
+            rank += Long.bitCount(assigned[i]);
+        }
+        if (wordIndex < assigned.length) {
+            rank += Long.bitCount(assigned[wordIndex] & (bit(id) - 1));
+        }
+        return rank;
+    }
+
+    private static boolean isSet(long[] words, int id) {
+        int wordIndex = wordIndex(id);
+        return wordIndex < words.length && (words[wordIndex] & bit(id)) != 0;
+    }
+
+    private static void setBit(long[] words, int id, boolean value) {
+        if (value) {
+            words[wordIndex(id)] |= bit(id);
+        } else {
+            words[wordIndex(id)] &= ~bit(id);
+        }
+    }
+
+    private static int countBits(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static long[] copyToFit(long[] words, int id) {
+        return Arrays.copyOf(words, Math.max(words.length, wordIndex(id) + 1));
+    }
+
+    private static AssignmentSet trimmed(long[] assigned, long[] done, AssignmentName[] names) {
+        int length = assigned.length;
+        while (length > 0 && assigned[length - 1] == 0) {
+            length--;
+        }
+        if (length == 0) {
+            return EMPTY;
+        }
+        return length == assigned.length
+                ? new AssignmentSet(assigned, done, names)
+                : new AssignmentSet(Arrays.copyOf(assigned, length), Arrays.copyOf(done, length), names);
+    }
+
+    private static int wordIndex(int id) {
+        return id / BITS_PER_WORD;
+    }
+
+    private static long bit(int id) {
+        return 1L << id;
+    }
+
+    private static void checkId(int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Assignment number must not be negative");
+        }
+    }
+
+    /**
+     * A read-only view of the assignments in this set.
+     */
+    private class AssignmentsView extends AbstractSet<Assignment> {
+
+        @Override
+        public Iterator<Assignment> iterator() {
+            return new Iterator<>() {
+                private int nextId = nextAssigned(0);
+                private int nextRank = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return nextId >= 0;
+                }
+
+                @Override
+                public Assignment next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Assignment assignment = new Assignment(names[nextRank++], isDone(nextId));
+                    nextId = nextAssigned(nextId + 1);
+                    return assignment;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return names.length;
+        }
+
+        @Override
+        public boolean contains(Object other) {
+            return other instanceof Assignment
+                    && isAssigned(AssignmentDictionary.findId(((Assignment) other).assignmentName));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AssignmentSet)) {
+            return false;
+        }
+
+        // Spellings are not compared, as assignment names are compared case-insensitively
+        AssignmentSet otherSet = (AssignmentSet) other;
+        return Arrays.equals(assigned, otherSet.assigned) && Arrays.equals(done, otherSet.done);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(assigned) + Arrays.hashCode(done);
+    }
+
+    @Override
+    public String toString() {
+        return toAssignments().toString();
+    }
+}
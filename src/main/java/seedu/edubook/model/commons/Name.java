@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.edubook.commons.util.AppUtil.checkArgument;
 
 import seedu.edubook.commons.util.StringUtil;
+import seedu.edubook.commons.util.ValidationUtil;
 
 /**
  * Represents a name in the address book. Is inherited by other classes to represent a specific object's name.
@@ -21,6 +22,10 @@ public class Name {
 
     public final String fullName;
 
+    /** Case-folded form of {@code fullName}, computed once so that comparisons and hashing do not repeat it. */
+    private final String normalizedName;
+    private final int hash;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -30,6 +35,8 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), getMessageConstraints());
         fullName = StringUtil.normalizeSpaces(name);
+        normalizedName = fullName.toLowerCase();
+        hash = normalizedName.hashCode();
     }
 
     public String getMessageConstraints() {
@@ -40,7 +47,15 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWithSpaces(test);
+    }
+
+    /**
+     * Returns the case-insensitive form of this name.
+     * Two names are equal if and only if their normalized names are equal, so this can be used as a lookup key.
+     */
+    public String getNormalizedName() {
+        return normalizedName;
     }
 
     @Override
@@ -60,11 +75,11 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        return fullName.toLowerCase().equals(otherName.fullName.toLowerCase());
+        return hash == otherName.hash && normalizedName.equals(otherName.normalizedName);
     }
 
     @Override
     public int hashCode() {
-        return fullName.toLowerCase().hashCode();
+        return hash;
     }
 }
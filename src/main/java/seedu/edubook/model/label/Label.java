@@ -5,6 +5,7 @@ import static seedu.edubook.commons.util.AppUtil.checkArgument;
 import static seedu.edubook.model.commons.Name.MAX_NAME_LENGTH;
 
 import seedu.edubook.commons.util.StringUtil;
+import seedu.edubook.commons.util.ValidationUtil;
 
 /**
  * Represents a Label in EduBook
@@ -57,7 +58,7 @@ public class Label {
      * Returns true if a given string is a valid label.
      */
     public static boolean isValidLabel(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWithSpaces(test);
     }
 
     /**
@@ -3,6 +3,10 @@ package seedu.edubook.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.edubook.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.edubook.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -32,6 +36,7 @@ public class Email {
             "(" + DOMAIN_PART_REGEX + "\\.)+" + "[A-Za-z]{2,}$";
     public static final String VALIDATION_REGEX =
             LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -50,7 +55,7 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(test, VALIDATION_PATTERN);
     }
 
     @Override
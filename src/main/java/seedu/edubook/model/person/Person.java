@@ -16,7 +16,9 @@ import seedu.edubook.logic.commands.exceptions.AssignmentUnmarkedException;
 import seedu.edubook.logic.commands.exceptions.LabelAlreadyExistsException;
 import seedu.edubook.logic.commands.exceptions.LabelNotFoundException;
 import seedu.edubook.model.assignment.Assignment;
+import seedu.edubook.model.assignment.AssignmentDictionary;
 import seedu.edubook.model.assignment.AssignmentName;
+import seedu.edubook.model.assignment.AssignmentSet;
 import seedu.edubook.model.label.Label;
 import seedu.edubook.model.tag.Tag;
 
@@ -33,8 +35,9 @@ public class Person {
 
     // Data fields
     private final TuitionClass tuitionClass;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Set<Assignment> assignments = new HashSet<>();
+    // Read-only, so that they can be handed out without copying
+    private final Set<Tag> tags;
+    private final AssignmentSet assignments;
     private final Label label;
 
     /**
@@ -54,7 +57,8 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.tuitionClass = tuitionClass;
-        this.tags.addAll(tags);
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
+        this.assignments = AssignmentSet.EMPTY;
         this.label = Label.EMPTY;
     }
 
@@ -72,8 +76,8 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.tuitionClass = tuitionClass;
-        this.tags.addAll(tags);
-        this.assignments.addAll(assignments);
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
+        this.assignments = AssignmentSet.of(assignments);
         this.label = Label.EMPTY;
     }
 
@@ -92,8 +96,22 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.tuitionClass = tuitionClass;
-        this.tags.addAll(tags);
-        this.assignments.addAll(assignments);
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
+        this.assignments = AssignmentSet.of(assignments);
+        this.label = label;
+    }
+
+    /**
+     * Constructs a copy of {@code source} with the given assignments and label.
+     * The read-only tag set is shared rather than copied, as it cannot change.
+     */
+    private Person(Person source, AssignmentSet assignments, Label label) {
+        this.name = source.name;
+        this.phone = source.phone;
+        this.email = source.email;
+        this.tuitionClass = source.tuitionClass;
+        this.tags = source.tags;
+        this.assignments = assignments;
         this.label = label;
     }
 
@@ -122,7 +140,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -136,22 +154,12 @@ public class Person {
     public Person withAddedAssignment(Assignment assignment) throws AssignmentAlreadyExistsException {
         requireNonNull(assignment);
 
-        if (this.hasAssignment(assignment)) {
+        int id = AssignmentDictionary.getId(assignment.assignmentName);
+        if (assignments.isAssigned(id)) {
             throw AssignmentAlreadyExistsException.forStudent();
         }
 
-        Set<Assignment> newAssignments = new HashSet<>(this.assignments);
-        newAssignments.add(assignment);
-
-        return new Person(
-                this.name,
-                this.phone,
-                this.email,
-                this.tuitionClass,
-                this.tags,
-                newAssignments,
-                this.label
-        );
+        return new Person(this, assignments.withAssigned(id, assignment.assignmentName, assignment.isDone()), label);
     }
 
     /**
@@ -168,15 +176,7 @@ public class Person {
             throw LabelAlreadyExistsException.forStudent();
         }
 
-        return new Person(
-                this.name,
-                this.phone,
-                this.email,
-                this.tuitionClass,
-                this.tags,
-                this.assignments,
-                label
-        );
+        return new Person(this, assignments, label);
     }
 
     /**
@@ -188,15 +188,7 @@ public class Person {
             throw LabelNotFoundException.forStudent();
         }
 
-        return new Person(
-                this.name,
-                this.phone,
-                this.email,
-                this.tuitionClass,
-                this.tags,
-                this.assignments,
-                Label.EMPTY
-        );
+        return new Person(this, assignments, Label.EMPTY);
     }
 
     /**
@@ -210,26 +202,28 @@ public class Person {
     public Person withRemovedAssignment(Assignment assignment) throws AssignmentNotFoundException {
         requireNonNull(assignment);
 
-        if (!this.hasAssignment(assignment)) {
+        int id = AssignmentDictionary.findId(assignment.assignmentName);
+        if (!assignments.isAssigned(id)) {
             throw AssignmentNotFoundException.forStudent();
         }
 
-        Set<Assignment> newAssignments = new HashSet<>(this.assignments);
-        newAssignments.remove(assignment);
-
-        return new Person(
-                this.name,
-                this.phone,
-                this.email,
-                this.tuitionClass,
-                this.tags,
-                newAssignments,
-                this.label
-        );
+        return new Person(this, assignments.withRemoved(id), label);
     }
 
+    /**
+     * Returns an immutable assignment set, which throws {@code UnsupportedOperationException}
+     * if modification is attempted.
+     * The set is a view over {@link #getAssignmentSet()}, so that students do not each hold a copy.
+     */
     public Set<Assignment> getAssignments() {
-        return new HashSet<>(this.assignments);
+        return assignments.toAssignments();
+    }
+
+    /**
+     * Returns the assignments of this person in their compact form.
+     */
+    public AssignmentSet getAssignmentSet() {
+        return assignments;
     }
 
     /**
@@ -239,49 +233,59 @@ public class Person {
      * @return a boolean representing whether the assignment is already assigned.
      */
     public boolean hasAssignment(Assignment assignment) {
-        return this.assignments.contains(assignment);
+        requireNonNull(assignment);
+        return assignments.isAssigned(AssignmentDictionary.findId(assignment.assignmentName));
     }
 
     /**
-     * Checks whether the student has an assignment matching given assignment name.
-     * Marks the assignment if present, throws exception otherwise.
+     * Marks the assignment matching the given assignment name as done, and creates a new person with the new
+     * assignment set. This ensures immutability of Person objects.
      *
-     * @param assignmentName Assignment name to be checked
+     * @param assignmentName Name of the assignment to be marked.
+     * @return The new person object.
      * @throws AssignmentNotFoundException if target assignment is not found.
      * @throws AssignmentMarkedException if target assignment is already marked.
      */
-    public void markAssignment(AssignmentName assignmentName)
+    public Person withMarkedAssignment(AssignmentName assignmentName)
             throws AssignmentNotFoundException, AssignmentMarkedException {
-        requireNonNull(assignmentName);
-
-        for (Assignment assignment : assignments) {
-            if (assignment.hasName(assignmentName)) {
-                assignment.mark();
-                return;
-            }
+        int id = getAssignmentId(assignmentName);
+        if (assignments.isDone(id)) {
+            throw new AssignmentMarkedException();
         }
-        throw AssignmentNotFoundException.forStudent();
+        return new Person(this, assignments.withDone(id, true), label);
     }
 
     /**
-     * Checks whether the student has an assignment matching given assignment name.
-     * Unmarks the assignment if present, throws exception otherwise.
+     * Marks the assignment matching the given assignment name as not done, and creates a new person with the new
+     * assignment set. This ensures immutability of Person objects.
      *
-     * @param assignmentName Assignment name to be checked
+     * @param assignmentName Name of the assignment to be unmarked.
+     * @return The new person object.
      * @throws AssignmentNotFoundException if target assignment is not found.
      * @throws AssignmentUnmarkedException if target assignment is already unmarked.
      */
-    public void unmarkAssignment(AssignmentName assignmentName)
+    public Person withUnmarkedAssignment(AssignmentName assignmentName)
             throws AssignmentNotFoundException, AssignmentUnmarkedException {
+        int id = getAssignmentId(assignmentName);
+        if (!assignments.isDone(id)) {
+            throw new AssignmentUnmarkedException();
+        }
+        return new Person(this, assignments.withDone(id, false), label);
+    }
+
+    /**
+     * Returns the number of the assignment of this person matching the given assignment name.
+     *
+     * @throws AssignmentNotFoundException if target assignment is not found.
+     */
+    private int getAssignmentId(AssignmentName assignmentName) throws AssignmentNotFoundException {
         requireNonNull(assignmentName);
 
-        for (Assignment assignment : assignments) {
-            if (assignment.hasName(assignmentName)) {
-                assignment.unmark();
-                return;
-            }
+        int id = AssignmentDictionary.findId(assignmentName);
+        if (!assignments.isAssigned(id)) {
+            throw AssignmentNotFoundException.forStudent();
         }
-        throw AssignmentNotFoundException.forStudent();
+        return id;
     }
 
     /**
@@ -297,6 +301,30 @@ public class Person {
                 && otherPerson.getName().equals(getName());
     }
 
+    /**
+     * Returns true if both persons are equal and spell their name, class, tags and assignments the same way.
+     * This is stronger than {@link #equals(Object)}, which ignores the case of those fields.
+     */
+    public boolean isIdenticalTo(Person otherPerson) {
+        if (otherPerson == this) {
+            return true;
+        }
+
+        return equals(otherPerson)
+                && name.fullName.equals(otherPerson.name.fullName)
+                && tuitionClass.value.equals(otherPerson.tuitionClass.value)
+                && getTagNames().equals(otherPerson.getTagNames())
+                && assignments.isIdenticalTo(otherPerson.assignments);
+    }
+
+    private Set<String> getTagNames() {
+        Set<String> tagNames = new HashSet<>();
+        for (Tag tag : tags) {
+            tagNames.add(tag.tagName);
+        }
+        return tagNames;
+    }
+
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
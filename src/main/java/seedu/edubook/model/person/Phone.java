@@ -3,6 +3,8 @@ package seedu.edubook.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.edubook.commons.util.AppUtil.checkArgument;
 
+import seedu.edubook.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -15,6 +17,8 @@ public class Phone {
 
     public static final String VALIDATION_REGEX = "\\d{3,}";
 
+    private static final int MIN_PHONE_LENGTH = 3;
+
     public static final String MESSAGE_LENGTH_CONSTRAINTS =
             "Phone numbers should only contain a maximum of 20 characters";
 
@@ -37,7 +41,7 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isDigits(test, MIN_PHONE_LENGTH);
     }
 
     @Override
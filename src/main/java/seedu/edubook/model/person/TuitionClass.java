@@ -3,7 +3,10 @@ package seedu.edubook.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.edubook.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 import seedu.edubook.commons.util.StringUtil;
+import seedu.edubook.commons.util.ValidationUtil;
 
 /**
  * Represents a Person's class in EduBook.
@@ -24,8 +27,14 @@ public class TuitionClass {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
+    /** Case-folded form of {@code value} and its hash code, computed once so that lookups by class allocate nothing. */
+    private final String normalizedValue;
+    private final int hash;
+
     /**
      * Constructs a {@code TuitionClass}.
      *
@@ -35,13 +44,15 @@ public class TuitionClass {
         requireNonNull(tuitionClass);
         checkArgument(isValidClass(tuitionClass), MESSAGE_CONSTRAINTS);
         value = StringUtil.normalizeSpaces(tuitionClass);
+        normalizedValue = value.toLowerCase();
+        hash = normalizedValue.hashCode();
     }
 
     /**
      * Returns true if a given string is a valid class.
      */
     public static boolean isValidClass(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(test, VALIDATION_PATTERN);
     }
 
     @Override
@@ -61,12 +72,12 @@ public class TuitionClass {
         }
 
         TuitionClass otherClass = (TuitionClass) other;
-        return value.toLowerCase().equals(otherClass.value.toLowerCase());
+        return hash == otherClass.hash && normalizedValue.equals(otherClass.normalizedValue);
     }
 
     @Override
     public int hashCode() {
-        return value.toLowerCase().hashCode();
+        return hash;
     }
 
 }
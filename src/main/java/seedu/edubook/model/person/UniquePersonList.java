@@ -3,13 +3,23 @@ package seedu.edubook.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.edubook.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import seedu.edubook.model.person.exceptions.DuplicatePersonException;
 import seedu.edubook.model.person.exceptions.PersonNotFoundException;
+import seedu.edubook.model.util.PersistentList;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,22 +28,47 @@ import seedu.edubook.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * A secondary index from each person's normalized name to the person is kept in sync with the backing list, so that
+ * identity checks and lookups by name do not need to scan the whole list.
+ *
+ * Modifications made between {@link #beginBatch()} and {@link #endBatch()} are published to listeners of the
+ * observable list as a single change.
+ *
+ * The contents are also kept in a {@link PersistentList}, which is updated along with the backing list at a cost of
+ * {@code O(log n)} per modification, so that a snapshot of the list can be taken in constant time and kept cheaply.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList internalList = new BatchableObservableList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Person> nameIndex = new HashMap<>();
+    private PersistentList<Person> snapshot = PersistentList.empty();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.containsKey(toCheck.getName().getNormalizedName());
+    }
+
+    /**
+     * Returns the person in the list whose name is equivalent to {@code name}.
+     *
+     * @throws PersonNotFoundException if there is no such person.
+     */
+    public Person get(PersonName name) throws PersonNotFoundException {
+        requireNonNull(name);
+        Person person = nameIndex.get(name.getNormalizedName());
+        if (person == null) {
+            throw new PersonNotFoundException();
+        }
+        return person;
     }
 
     /**
@@ -45,13 +80,16 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        nameIndex.put(toAdd.getName().getNormalizedName(), toAdd);
         internalList.add(toAdd);
+        snapshot = snapshot.plus(toAdd);
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * Does nothing if {@code editedPerson} is identical to {@code target}, as defined by {@link Person#isIdenticalTo}.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -64,8 +102,15 @@ public class UniquePersonList implements Iterable<Person> {
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
+        if (target.isIdenticalTo(editedPerson)) {
+            // Leaves the snapshot as it is, so that an edit that changes nothing does not become an undo state
+            return;
+        }
 
+        nameIndex.remove(target.getName().getNormalizedName());
+        nameIndex.put(editedPerson.getName().getNormalizedName(), editedPerson);
         internalList.set(index, editedPerson);
+        snapshot = snapshot.with(index, editedPerson);
     }
 
     /**
@@ -74,14 +119,22 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        nameIndex.remove(toRemove.getName().getNormalizedName());
+        internalList.remove(index);
+        snapshot = snapshot.minus(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
         internalList.setAll(replacement.internalList);
+        snapshot = replacement.snapshot;
     }
 
     /**
@@ -94,7 +147,72 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        nameIndex.clear();
+        for (Person person : persons) {
+            nameIndex.put(person.getName().getNormalizedName(), person);
+        }
         internalList.setAll(persons);
+        snapshot = PersistentList.of(persons);
+    }
+
+    /**
+     * Returns the current contents of this list. Later modifications of this list do not affect the snapshot.
+     */
+    public PersistentList<Person> getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Replaces the contents of this list with those of {@code snapshot}, which was taken from a list by
+     * {@link #getSnapshot()}. Afterwards, {@link #getSnapshot()} returns {@code snapshot} itself.
+     * Only the persons that differ between the current contents and {@code snapshot} are replaced, added or
+     * removed, and listeners are notified of those modifications as a single change.
+     */
+    public void restore(PersistentList<Person> snapshot) {
+        requireNonNull(snapshot);
+        int currentSize = internalList.size();
+        int targetSize = snapshot.size();
+        int prefixLength = this.snapshot.commonPrefixLength(snapshot);
+        int suffixLength = Math.min(this.snapshot.commonSuffixLength(snapshot),
+                Math.min(currentSize, targetSize) - prefixLength);
+
+        List<Person> currentPersons = new ArrayList<>(internalList.subList(prefixLength, currentSize - suffixLength));
+        List<Person> targetPersons = new ArrayList<>(targetSize - prefixLength - suffixLength);
+        for (int i = prefixLength; i < targetSize - suffixLength; i++) {
+            targetPersons.add(snapshot.get(i));
+        }
+
+        internalList.beginBatch();
+        try {
+            applyDifferences(prefixLength, currentPersons, targetPersons);
+        } finally {
+            internalList.endBatch();
+        }
+
+        // All names are removed before any is added, as a person may have taken the name of another.
+        for (Person person : currentPersons) {
+            nameIndex.remove(person.getName().getNormalizedName());
+        }
+        for (Person person : targetPersons) {
+            nameIndex.put(person.getName().getNormalizedName(), person);
+        }
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Starts a batch of modifications. Until the matching {@link #endBatch()}, modifications are applied to the list
+     * immediately but listeners are only notified once, when the outermost batch ends. Batches may be nested.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the current batch of modifications, notifying listeners of all changes made in it if it is the outermost
+     * batch. Every call must be paired with an earlier call to {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -134,17 +252,156 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Turns {@code currentPersons}, found in the backing list from {@code fromIndex}, into {@code targetPersons}.
+     * Persons in both are kept where they are, a person only in one of them is removed or added, and a person
+     * removed where another is added is replaced. If the persons in both are not in the same order in each, all of
+     * {@code currentPersons} are replaced instead.
+     */
+    private void applyDifferences(int fromIndex, List<Person> currentPersons, List<Person> targetPersons) {
+        Set<Person> currentSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        currentSet.addAll(currentPersons);
+        Set<Person> targetSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        targetSet.addAll(targetPersons);
+
+        List<Person> keptInCurrentOrder = new ArrayList<>();
+        for (Person person : currentPersons) {
+            if (targetSet.contains(person)) {
+                keptInCurrentOrder.add(person);
+            }
+        }
+        List<Person> keptInTargetOrder = new ArrayList<>();
+        for (Person person : targetPersons) {
+            if (currentSet.contains(person)) {
+                keptInTargetOrder.add(person);
+            }
+        }
+        if (keptInCurrentOrder.isEmpty() || !keptInCurrentOrder.equals(keptInTargetOrder)) {
+            internalList.replaceRange(fromIndex, fromIndex + currentPersons.size(), targetPersons);
+            return;
+        }
+
+        int index = fromIndex;
+        int currentIndex = 0;
+        int targetIndex = 0;
+        while (currentIndex < currentPersons.size() || targetIndex < targetPersons.size()) {
+            Person current = currentIndex < currentPersons.size() ? currentPersons.get(currentIndex) : null;
+            Person target = targetIndex < targetPersons.size() ? targetPersons.get(targetIndex) : null;
+            if (current != null && current == target) {
+                index++;
+                currentIndex++;
+                targetIndex++;
+            } else if (current != null && !targetSet.contains(current)) {
+                if (target != null && !currentSet.contains(target)) {
+                    internalList.set(index++, target);
+                    targetIndex++;
+                } else {
+                    internalList.remove(index);
+                }
+                currentIndex++;
+            } else {
+                // As the kept persons are in the same order, a person only in targetPersons is next.
+                assert target != null && !currentSet.contains(target);
+                internalList.add(index++, target);
+                targetIndex++;
+            }
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
+     * Runs in a single pass over {@code persons}, comparing normalized names to detect duplicates.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<String> seenNames = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenNames.add(person.getName().getNormalizedName())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * An {@code ObservableList} backed by an {@code ArrayList} whose modifications can be grouped into one change.
+     */
+    private static class BatchableObservableList extends ModifiableObservableListBase<Person> {
+
+        private final List<Person> persons = new ArrayList<>();
+
+        void beginBatch() {
+            beginChange();
+        }
+
+        void endBatch() {
+            endChange();
+        }
+
+        @Override
+        public boolean setAll(Collection<? extends Person> replacement) {
+            beginChange();
+            try {
+                // Replaces the contents in bulk, as the inherited implementation removes elements one at a time.
+                if (!persons.isEmpty()) {
+                    List<Person> removed = new ArrayList<>(persons);
+                    persons.clear();
+                    nextRemove(0, removed);
+                }
+                if (!replacement.isEmpty()) {
+                    persons.addAll(replacement);
+                    nextAdd(0, persons.size());
+                }
+            } finally {
+                endChange();
+            }
+            return true;
+        }
+
+        /**
+         * Replaces the elements from {@code fromIndex} to {@code toIndex} with {@code replacement}, as one change.
+         */
+        void replaceRange(int fromIndex, int toIndex, List<Person> replacement) {
+            beginChange();
+            try {
+                List<Person> range = persons.subList(fromIndex, toIndex);
+                List<Person> removed = new ArrayList<>(range);
+                range.clear();
+                persons.addAll(fromIndex, replacement);
+                if (!removed.isEmpty() && !replacement.isEmpty()) {
+                    nextReplace(fromIndex, fromIndex + replacement.size(), removed);
+                } else if (!removed.isEmpty()) {
+                    nextRemove(fromIndex, removed);
+                } else if (!replacement.isEmpty()) {
+                    nextAdd(fromIndex, fromIndex + replacement.size());
+                }
+            } finally {
+                endChange();
+            }
+        }
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Person element) {
+            persons.add(index, element);
+        }
+
+        @Override
+        protected Person doSet(int index, Person element) {
+            return persons.set(index, element);
+        }
+
+        @Override
+        protected Person doRemove(int index) {
+            return persons.remove(index);
+        }
+    }
 }
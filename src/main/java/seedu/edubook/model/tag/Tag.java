@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.edubook.commons.util.AppUtil.checkArgument;
 
 import seedu.edubook.commons.util.StringUtil;
+import seedu.edubook.commons.util.ValidationUtil;
 
 /**
  * Represents a Tag in the address book.
@@ -19,6 +20,10 @@ public class Tag {
 
     public final String tagName;
 
+    /** Case-folded form of {@code tagName} and its hash code, computed once so that comparisons allocate nothing. */
+    private final String normalizedTagName;
+    private final int hash;
+
     /**
      * Constructs a {@code Tag}.
      *
@@ -28,13 +33,15 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = StringUtil.normalizeSpaces(tagName);
+        this.normalizedTagName = this.tagName.toLowerCase();
+        this.hash = normalizedTagName.hashCode();
     }
 
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericOrWhitespace(test);
     }
 
     @Override
@@ -49,12 +56,12 @@ public class Tag {
         }
 
         Tag otherTag = (Tag) other;
-        return tagName.toLowerCase().equals(otherTag.tagName.toLowerCase());
+        return hash == otherTag.hash && normalizedTagName.equals(otherTag.normalizedTagName);
     }
 
     @Override
     public int hashCode() {
-        return tagName.toLowerCase().hashCode();
+        return hash;
     }
 
     /**
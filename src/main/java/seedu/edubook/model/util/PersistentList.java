@@ -0,0 +1,341 @@
+package seedu.edubook.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable list held as a balanced binary tree, whose modified copies share all but the changed path with
+ * the original. Adding, replacing or removing one element of a list of {@code n} elements takes {@code O(log n)}
+ * time and new memory, so earlier versions of a list can be kept at little cost.
+ * The tree is an AVL tree ordered by position, where each node also records the size of its subtree.
+ * Guarantees: immutable; elements are non-null.
+ *
+ * @param <T> Type of the elements, which should be immutable.
+ */
+public class PersistentList<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list holding {@code elements}, in order. Takes {@code O(n)} time.
+     */
+    public static <T> PersistentList<T> of(List<? extends T> elements) {
+        requireNonNull(elements);
+        return elements.isEmpty() ? empty() : new PersistentList<>(build(elements, 0, elements.size()));
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a position in the list.
+     */
+    public T get(int index) {
+        Objects.checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of this list with {@code element} in place of the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a position in the list.
+     */
+    public PersistentList<T> with(int index, T element) {
+        requireNonNull(element);
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a copy of this list with {@code element} added at the end.
+     */
+    public PersistentList<T> plus(T element) {
+        requireNonNull(element);
+        return new PersistentList<>(insert(root, size(), element));
+    }
+
+    /**
+     * Returns a copy of this list without the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a position in the list.
+     */
+    public PersistentList<T> minus(int index) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns the number of elements at the start of this list that are the same objects as those at the start of
+     * {@code other}. Subtrees that the two lists share are skipped whole, so comparing two versions of a list that
+     * differ in {@code k} places takes about {@code O(k log n)} time rather than {@code O(n)}.
+     */
+    public int commonPrefixLength(PersistentList<T> other) {
+        requireNonNull(other);
+        return commonLength(root, other.root, false);
+    }
+
+    /**
+     * Returns the number of elements at the end of this list that are the same objects as those at the end of
+     * {@code other}. Takes the same time as {@link #commonPrefixLength(PersistentList)}.
+     */
+    public int commonSuffixLength(PersistentList<T> other) {
+        requireNonNull(other);
+        return commonLength(root, other.root, true);
+    }
+
+    /**
+     * Returns the elements of this list, in order, as an unmodifiable {@code List}. Takes {@code O(n)} time.
+     */
+    public List<T> toList() {
+        List<T> elements = new ArrayList<>(size());
+        addAll(root, elements);
+        return Collections.unmodifiableList(elements);
+    }
+
+    //// tree operations, each returning a new subtree and leaving the given one unchanged
+
+    private static <T> Node<T> build(List<? extends T> elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return node(elements.get(middle), build(elements, from, middle), build(elements, middle + 1, to));
+    }
+
+    private static <T> Node<T> set(Node<T> node, int index, T element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, set(node.left, index, element), node.right, node.size, node.height);
+        } else if (index > leftSize) {
+            return new Node<>(node.value, node.left, set(node.right, index - leftSize - 1, element), node.size,
+                    node.height);
+        }
+        return new Node<>(element, node.left, node.right, node.size, node.height);
+    }
+
+    private static <T> Node<T> insert(Node<T> node, int index, T element) {
+        if (node == null) {
+            return node(element, null, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, element), node.right);
+        }
+        return balance(node.value, node.left, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <T> Node<T> remove(Node<T> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(node.value, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, remove(node.right, index - leftSize - 1));
+        }
+
+        if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        // Moves the next element up into the place of the removed one
+        Node<T> next = node.right;
+        while (next.left != null) {
+            next = next.left;
+        }
+        return balance(next.value, node.left, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a node holding {@code value} between {@code left} and {@code right}, rotating it so that the heights
+     * of its two subtrees differ by at most one. The heights of {@code left} and {@code right} may differ by two.
+     */
+    private static <T> Node<T> balance(T value, Node<T> left, Node<T> right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return node(left.value, left.left, node(value, left.right, right));
+            }
+            return node(left.right.value, node(left.value, left.left, left.right.left),
+                    node(value, left.right.right, right));
+        } else if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return node(right.value, node(value, left, right.left), right.right);
+            }
+            return node(right.left.value, node(value, left, right.left.left),
+                    node(right.value, right.left.right, right.right));
+        }
+        return node(value, left, right);
+    }
+
+    private static <T> Node<T> node(T value, Node<T> left, Node<T> right) {
+        return new Node<>(value, left, right, size(left) + size(right) + 1,
+                Math.max(height(left), height(right)) + 1);
+    }
+
+    private static <T> void addAll(Node<T> node, List<T> elements) {
+        if (node == null) {
+            return;
+        }
+        addAll(node.left, elements);
+        elements.add(node.value);
+        addAll(node.right, elements);
+    }
+
+    /**
+     * Returns the number of elements that are the same objects at the start, or at the end if {@code fromEnd},
+     * of the lists held by {@code first} and {@code second}.
+     * Each list is walked as a stack of pieces, each either a whole subtree or the single element of a node. Pieces
+     * that are the same subtree are counted without being walked, and other subtrees are split until single
+     * elements can be compared.
+     */
+    private static <T> int commonLength(Node<T> first, Node<T> second, boolean fromEnd) {
+        Deque<Piece<T>> firstPieces = new ArrayDeque<>();
+        Deque<Piece<T>> secondPieces = new ArrayDeque<>();
+        pushSubtree(firstPieces, first);
+        pushSubtree(secondPieces, second);
+
+        int length = 0;
+        while (!firstPieces.isEmpty() && !secondPieces.isEmpty()) {
+            Piece<T> firstPiece = firstPieces.peek();
+            Piece<T> secondPiece = secondPieces.peek();
+            if (firstPiece.isSubtree && secondPiece.isSubtree && firstPiece.node == secondPiece.node) {
+                length += firstPiece.node.size;
+                firstPieces.pop();
+                secondPieces.pop();
+            } else if (firstPiece.isSubtree && (!secondPiece.isSubtree
+                    || firstPiece.node.size >= secondPiece.node.size)) {
+                split(firstPieces, fromEnd);
+            } else if (secondPiece.isSubtree) {
+                split(secondPieces, fromEnd);
+            } else if (firstPiece.node.value == secondPiece.node.value) {
+                length++;
+                firstPieces.pop();
+                secondPieces.pop();
+            } else {
+                break;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Replaces the subtree piece on top of {@code pieces} with its left subtree, its element and its right subtree,
+     * in the order they are walked.
+     */
+    private static <T> void split(Deque<Piece<T>> pieces, boolean fromEnd) {
+        Node<T> node = pieces.pop().node;
+        pushSubtree(pieces, fromEnd ? node.left : node.right);
+        pieces.push(new Piece<>(node, false));
+        pushSubtree(pieces, fromEnd ? node.right : node.left);
+    }
+
+    private static <T> void pushSubtree(Deque<Piece<T>> pieces, Node<T> node) {
+        if (node != null) {
+            pieces.push(new Piece<>(node, true));
+        }
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersistentList)) {
+            return false;
+        }
+
+        PersistentList<?> otherList = (PersistentList<?>) other;
+        return toList().equals(otherList.toList());
+    }
+
+    @Override
+    public int hashCode() {
+        return toList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    /**
+     * A part of a list being walked: the whole subtree under {@code node}, or only the element of {@code node}.
+     */
+    private static class Piece<T> {
+        private final Node<T> node;
+        private final boolean isSubtree;
+
+        private Piece(Node<T> node, boolean isSubtree) {
+            this.node = node;
+            this.isSubtree = isSubtree;
+        }
+    }
+
+    /**
+     * A node of the tree, holding the element whose position is after those in {@code left}.
+     */
+    private static class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        private Node(T value, Node<T> left, Node<T> right, int size, int height) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size;
+            this.height = height;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package seedu.edubook.model.util;
+
+import static seedu.edubook.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.edubook.model.AddressBook;
+import seedu.edubook.model.assignment.Assignment;
+import seedu.edubook.model.assignment.AssignmentName;
+import seedu.edubook.model.label.Label;
+import seedu.edubook.model.person.Email;
+import seedu.edubook.model.person.Person;
+import seedu.edubook.model.person.PersonName;
+import seedu.edubook.model.person.Phone;
+import seedu.edubook.model.person.TuitionClass;
+import seedu.edubook.model.tag.Tag;
+import seedu.edubook.storage.JsonAddressBookStorage;
+
+/**
+ * Generates address books of synthetic students for load and scale testing.
+ * The same settings and seed always generate the same address book.
+ *
+ * <p>Classes, tags, labels and assignments are picked with a Zipf distribution, so that a few classes are much
+ * larger than the rest and a few assignments are given to most students, as in a real tuition centre.
+ * A skew of 0 picks them uniformly instead.</p>
+ */
+public class SyntheticDataGenerator {
+
+    public static final long DEFAULT_SEED = 2103;
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ling", "Ahmad", "Priya", "Jun Jie",
+        "Siti", "Marcus", "Hui Min", "Ravi", "Chloe", "Daniel", "Nur", "Ethan", "Kai", "Mei"
+    };
+    private static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan", "Lim", "Lee", "Ng",
+        "Wong", "Goh", "Chua", "Kumar", "Rahman", "Teo", "Ong", "Koh", "Chan", "Low"
+    };
+
+    private final long seed;
+    private int studentCount = 1000;
+    private int classCount = 50;
+    private int tagCount = 20;
+    private int maxTagsPerStudent = 2;
+    private int labelCount = 10;
+    private double labelRatio = 0.3;
+    private int assignmentCount = 40;
+    private int assignmentsPerStudent = 5;
+    private double doneRatio = 0.6;
+    private double skew = 1.0;
+
+    /**
+     * Creates a generator with default settings and {@link #DEFAULT_SEED}.
+     */
+    public SyntheticDataGenerator() {
+        this(DEFAULT_SEED);
+    }
+
+    /**
+     * Creates a generator with default settings and the given {@code seed}.
+     */
+    public SyntheticDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the number of students to generate.
+     */
+    public SyntheticDataGenerator withStudentCount(int studentCount) {
+        checkArgument(studentCount >= 0, "Student count must not be negative");
+        this.studentCount = studentCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of distinct classes that students are spread over.
+     */
+    public SyntheticDataGenerator withClassCount(int classCount) {
+        checkArgument(classCount > 0, "Class count must be positive");
+        this.classCount = classCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of distinct tags, and the maximum number of tags given to each student.
+     */
+    public SyntheticDataGenerator withTags(int tagCount, int maxTagsPerStudent) {
+        checkArgument(tagCount >= 0 && maxTagsPerStudent >= 0, "Tag counts must not be negative");
+        checkArgument(tagCount > 0 || maxTagsPerStudent == 0, "Students cannot have tags when there are none");
+        this.tagCount = tagCount;
+        this.maxTagsPerStudent = maxTagsPerStudent;
+        return this;
+    }
+
+    /**
+     * Sets the number of distinct labels, and the fraction of students that have a label.
+     */
+    public SyntheticDataGenerator withLabels(int labelCount, double labelRatio) {
+        checkArgument(labelCount >= 0, "Label count must not be negative");
+        checkArgument(isRatio(labelRatio), "Label ratio must be between 0 and 1");
+        checkArgument(labelCount > 0 || labelRatio == 0, "Students cannot have labels when there are none");
+        this.labelCount = labelCount;
+        this.labelRatio = labelRatio;
+        return this;
+    }
+
+    /**
+     * Sets the number of distinct assignments, how many are drawn for each student, and the fraction of drawn
+     * assignments that are done. A student may be drawn the same assignment more than once, so students end up
+     * with at most {@code assignmentsPerStudent} assignments.
+     */
+    public SyntheticDataGenerator withAssignments(int assignmentCount, int assignmentsPerStudent, double doneRatio) {
+        checkArgument(assignmentCount >= 0 && assignmentsPerStudent >= 0, "Assignment counts must not be negative");
+        checkArgument(assignmentCount > 0 || assignmentsPerStudent == 0,
+                "Students cannot have assignments when there are none");
+        checkArgument(isRatio(doneRatio), "Done ratio must be between 0 and 1");
+        this.assignmentCount = assignmentCount;
+        this.assignmentsPerStudent = assignmentsPerStudent;
+        this.doneRatio = doneRatio;
+        return this;
+    }
+
+    /**
+     * Sets the exponent of the Zipf distribution used to pick classes, tags, labels and assignments.
+     * 0 picks them uniformly, and larger values concentrate students on the first few.
+     */
+    public SyntheticDataGenerator withSkew(double skew) {
+        checkArgument(skew >= 0, "Skew must not be negative");
+        this.skew = skew;
+        return this;
+    }
+
+    /**
+     * Returns a new address book of generated students.
+     */
+    public AddressBook generate() {
+        Random random = new Random(seed);
+        ZipfSampler classes = new ZipfSampler(classCount, skew);
+        ZipfSampler tags = new ZipfSampler(tagCount, skew);
+        ZipfSampler labels = new ZipfSampler(labelCount, skew);
+        ZipfSampler assignments = new ZipfSampler(assignmentCount, skew);
+
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < studentCount; i++) {
+            addressBook.addPerson(generatePerson(i, random, classes, tags, labels, assignments));
+        }
+        return addressBook;
+    }
+
+    /**
+     * Generates an address book and saves it to {@code filePath}, overwriting the file if it exists.
+     */
+    public void generateTo(Path filePath) throws IOException {
+        new JsonAddressBookStorage(filePath).saveAddressBook(generate());
+    }
+
+    private Person generatePerson(int index, Random random, ZipfSampler classes, ZipfSampler tags,
+            ZipfSampler labels, ZipfSampler assignments) {
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        // The index keeps names unique, as students with the same name are the same person
+        PersonName name = new PersonName(firstName + " " + lastName + " " + index);
+        Phone phone = new Phone(String.valueOf(80000000 + random.nextInt(20000000)));
+        Email email = new Email((firstName + lastName).replace(" ", "").toLowerCase() + index + "@example.com");
+        TuitionClass tuitionClass = new TuitionClass("Class " + (classes.sample(random) + 1));
+
+        Set<Tag> tagSet = new HashSet<>();
+        int tagDraws = random.nextInt(maxTagsPerStudent + 1);
+        for (int i = 0; i < tagDraws; i++) {
+            tagSet.add(new Tag("Group " + (tags.sample(random) + 1)));
+        }
+
+        Set<Assignment> assignmentSet = new HashSet<>();
+        for (int i = 0; i < assignmentsPerStudent; i++) {
+            AssignmentName assignmentName = new AssignmentName("Homework " + (assignments.sample(random) + 1));
+            assignmentSet.add(new Assignment(assignmentName, random.nextDouble() < doneRatio));
+        }
+
+        Label label = random.nextDouble() < labelRatio
+                ? new Label("Note " + (labels.sample(random) + 1))
+                : Label.EMPTY;
+
+        return new Person(name, phone, email, tuitionClass, tagSet, assignmentSet, label);
+    }
+
+    private static boolean isRatio(double value) {
+        return value >= 0 && value <= 1;
+    }
+
+    /**
+     * Generates an address book and saves it to a file.
+     * Arguments are the file to save to, the number of students, and optionally the seed.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: SyntheticDataGenerator FILE STUDENT_COUNT [SEED]");
+            System.exit(1);
+        }
+
+        Path filePath = Paths.get(args[0]);
+        int studentCount = Integer.parseInt(args[1]);
+        long seed = args.length == 3 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+        new SyntheticDataGenerator(seed).withStudentCount(studentCount).generateTo(filePath);
+        System.out.println("Saved " + studentCount + " students to " + filePath);
+    }
+
+    /**
+     * Picks indices in {@code [0, count)}, where index {@code k} is picked with weight {@code 1 / (k + 1)^skew}.
+     */
+    private static class ZipfSampler {
+
+        private final double[] cumulativeWeights;
+
+        ZipfSampler(int count, double skew) {
+            cumulativeWeights = new double[count];
+            double total = 0;
+            for (int k = 0; k < count; k++) {
+                total += 1 / Math.pow(k + 1, skew);
+                cumulativeWeights[k] = total;
+            }
+        }
+
+        int sample(Random random) {
+            double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+            int index = Arrays.binarySearch(cumulativeWeights, target);
+            // A negative result encodes the insertion point, which is the first weight above the target
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.edubook.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Shares one instance among equal immutable values, such as the class that hundreds of students are in.
+ * Values are pooled by the exact text they are created from rather than by {@code equals}, as some values compare
+ * case-insensitively but keep the case they were entered in.
+ * Once the pool holds {@code capacity} values, further values are created without being pooled.
+ * Thread-safe.
+ *
+ * @param <T> Type of the pooled values, which must be immutable.
+ */
+public class ValuePool<T> {
+
+    private final String name;
+    private final Function<String, T> factory;
+    private final int capacity;
+    private final Map<String, T> values = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * Creates an empty pool of values created by {@code factory}.
+     *
+     * @param name Name of the values, used when reporting the pool's hit rate.
+     * @param capacity Maximum number of values to pool.
+     */
+    public ValuePool(String name, Function<String, T> factory, int capacity) {
+        requireNonNull(name);
+        requireNonNull(factory);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.name = name;
+        this.factory = factory;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the pooled value created from {@code text}, creating and pooling it if there is none yet.
+     * {@code text} must be valid for the factory of this pool, which otherwise throws as usual.
+     */
+    public T intern(String text) {
+        requireNonNull(text);
+        T value = values.get(text);
+        if (value != null) {
+            hitCount.increment();
+            return value;
+        }
+
+        missCount.increment();
+        value = factory.apply(text);
+        if (values.size() >= capacity) {
+            return value;
+        }
+        T pooledValue = values.putIfAbsent(text, value);
+        return pooledValue == null ? value : pooledValue;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of values held by the pool.
+     */
+    public int size() {
+        return values.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the fraction of {@link #intern(String)} calls that returned a value already in the pool,
+     * or 0 if there have been none.
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Empties the pool and resets its counts.
+     */
+    public void clear() {
+        values.clear();
+        hitCount.reset();
+        missCount.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d pooled, %.1f%% hits (%d / %d)", name, size(), getHitRate() * 100,
+                getHitCount(), getHitCount() + getMissCount());
+    }
+}
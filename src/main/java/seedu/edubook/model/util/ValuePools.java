@@ -0,0 +1,38 @@
+package seedu.edubook.model.util;
+
+import java.util.List;
+
+import seedu.edubook.model.assignment.AssignmentName;
+import seedu.edubook.model.label.Label;
+import seedu.edubook.model.person.TuitionClass;
+import seedu.edubook.model.tag.Tag;
+
+/**
+ * Holds the {@link ValuePool}s for the values that many students share.
+ * Values loaded from storage and parsed from commands go through these pools, so that a roster of thousands of
+ * students holds one instance of each class, tag, label and assignment name.
+ */
+public class ValuePools {
+
+    public static final int CAPACITY = 10_000;
+
+    public static final ValuePool<TuitionClass> TUITION_CLASSES =
+            new ValuePool<>("classes", TuitionClass::new, CAPACITY);
+    public static final ValuePool<Tag> TAGS = new ValuePool<>("tags", Tag::new, CAPACITY);
+    public static final ValuePool<Label> LABELS = new ValuePool<>("labels", Label::new, CAPACITY);
+    public static final ValuePool<AssignmentName> ASSIGNMENT_NAMES =
+            new ValuePool<>("assignment names", AssignmentName::new, CAPACITY);
+
+    private static final List<ValuePool<?>> POOLS = List.of(TUITION_CLASSES, TAGS, LABELS, ASSIGNMENT_NAMES);
+
+    /**
+     * Returns the size and hit rate of each pool, one pool per line.
+     */
+    public static String getSummary() {
+        StringBuilder summary = new StringBuilder("Value pools");
+        for (ValuePool<?> pool : POOLS) {
+            summary.append("\n  ").append(pool);
+        }
+        return summary.toString();
+    }
+}
@@ -2,6 +2,7 @@ package seedu.edubook.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.edubook.commons.exceptions.DataLoadingException;
@@ -42,4 +43,14 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Returns the locations of the previous versions of the data file that have been kept, newest first.
+     */
+    List<Path> getBackupFilePaths();
+
+    /**
+     * Returns the total number of bytes written to data files by this storage so far.
+     */
+    long getBytesWritten();
+
 }
@@ -0,0 +1,310 @@
+package seedu.edubook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.edubook.commons.core.DurabilityPolicy;
+import seedu.edubook.commons.core.LogsCenter;
+import seedu.edubook.commons.exceptions.DataLoadingException;
+import seedu.edubook.commons.exceptions.IllegalValueException;
+import seedu.edubook.commons.util.FileUtil;
+import seedu.edubook.commons.util.JsonUtil;
+import seedu.edubook.model.AddressBook;
+import seedu.edubook.model.ReadOnlyAddressBook;
+import seedu.edubook.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file plus an append-only journal of later changes.
+ * <p>
+ * Once {@link #trackChanges(ObservableList)} is called with the person list of the address book being saved, each
+ * change to that list is recorded as a journal entry. Saving then appends only the entries recorded since the
+ * previous save, so the cost of a save grows with the size of the change rather than the size of the address book.
+ * When the journal grows past the compaction threshold, it is folded into a new snapshot.
+ * <p>
+ * Reading replays the journal on top of the snapshot. The journal starts with a header naming the id of the
+ * snapshot it was written on top of, and a journal that names any other snapshot is ignored, as its changes are
+ * either already in the snapshot or were made to data that the snapshot replaced.
+ */
+public class JournaledAddressBookStorage extends JsonAddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final int compactionThreshold;
+    private final Queue<String> pendingEntries = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean isTracking = false;
+    private volatile boolean isSnapshotCurrent = false;
+    private String snapshotId;
+    private int journalEntryCount = 0;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} whose snapshot is at {@code filePath}.
+     *
+     * @param compactionThreshold Number of journal entries after which the journal is folded into the snapshot.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, DurabilityPolicy.FILE, 0);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} whose snapshot is at {@code filePath}.
+     *
+     * @param compactionThreshold Number of journal entries after which the journal is folded into the snapshot.
+     * @param durabilityPolicy How far each snapshot and journal append waits for the data to reach the disk.
+     * @param backupCount Number of previous snapshots to keep.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold, DurabilityPolicy durabilityPolicy,
+            int backupCount) {
+        super(filePath, durabilityPolicy, backupCount);
+        if (compactionThreshold <= 0) {
+            throw new IllegalArgumentException("Compaction threshold must be positive");
+        }
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Starts recording changes to {@code persons} as journal entries.
+     * {@code persons} should be the person list of the address book that is saved to this storage, and should hold
+     * the data last read from this storage. Otherwise, the next save writes a full snapshot.
+     */
+    public void trackChanges(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        persons.addListener((ListChangeListener<Person>) this::recordChange);
+        isTracking = true;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        Optional<Snapshot> snapshot = readSnapshot(filePath);
+        Optional<ReadOnlyAddressBook> snapshotAddressBook = snapshot.map(current -> current.addressBook);
+        String currentSnapshotId = snapshot.map(current -> current.id).orElse(null);
+        if (!Files.exists(journalFilePath)) {
+            markSnapshotCurrent(filePath, currentSnapshotId, 0);
+            return snapshotAddressBook;
+        }
+
+        List<String> lines = readJournal(journalFilePath);
+        if (!isJournalOf(lines, currentSnapshotId)) {
+            // Left behind by a crash between writing a snapshot and deleting the journal it replaced.
+            logger.warning("Ignoring " + journalFilePath + " as it was not written on top of " + filePath);
+            markSnapshotCurrent(filePath, null, 0);
+            return snapshotAddressBook;
+        }
+
+        AddressBook addressBook = new AddressBook(snapshotAddressBook.get());
+        int replayedCount = replayJournal(journalFilePath, lines.subList(1, lines.size()), addressBook);
+        markSnapshotCurrent(filePath, currentSnapshotId, replayedCount);
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!isTracking || !filePath.equals(getAddressBookFilePath())) {
+            super.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        synchronized (this) {
+            List<String> entries = drainPendingEntries();
+            if (!isSnapshotCurrent) {
+                // The data on disk is not what tracking started from, so the entries alone cannot reproduce it.
+                // Entries that are already reflected in the snapshot are harmless to replay.
+                super.saveAddressBook(addressBook, filePath);
+            }
+
+            try {
+                appendToJournal(filePath, entries);
+            } catch (IOException e) {
+                // The drained entries are not all in the journal, so the next save must write a full snapshot.
+                isSnapshotCurrent = false;
+                throw e;
+            }
+            if (journalEntryCount >= compactionThreshold) {
+                compact(filePath);
+            }
+        }
+    }
+
+    /**
+     * Records the changes to the tracked person list as pending journal entries.
+     * Every deletion in the change is recorded before any put, as a person added by one part of the change may take
+     * the name of a person removed by a later part. An edit that keeps a person's name is recorded as a single put.
+     */
+    private void recordChange(ListChangeListener.Change<? extends Person> change) {
+        try {
+            Set<String> addedNames = new HashSet<>();
+            while (change.next()) {
+                for (Person added : change.getAddedSubList()) {
+                    addedNames.add(added.getName().getNormalizedName());
+                }
+            }
+            change.reset();
+            while (change.next()) {
+                for (Person removed : change.getRemoved()) {
+                    if (!addedNames.contains(removed.getName().getNormalizedName())) {
+                        pendingEntries.add(JsonUtil.toCompactJsonString(
+                                JsonAdaptedJournalEntry.delete(removed.getName())));
+                    }
+                }
+            }
+            change.reset();
+            while (change.next()) {
+                for (Person added : change.getAddedSubList()) {
+                    pendingEntries.add(JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.put(added)));
+                }
+            }
+        } catch (IOException e) {
+            // The entries cannot be trusted any more, so fall back to a full snapshot on the next save.
+            logger.warning("Could not record change in journal, will save a full snapshot instead: " + e);
+            isSnapshotCurrent = false;
+        }
+    }
+
+    private List<String> drainPendingEntries() {
+        List<String> entries = new ArrayList<>();
+        String entry;
+        while ((entry = pendingEntries.poll()) != null) {
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    @Override
+    String writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        String newSnapshotId = super.writeSnapshot(addressBook, filePath);
+        markSnapshotCurrent(filePath, newSnapshotId, 0);
+        return newSnapshotId;
+    }
+
+    /**
+     * Appends {@code entries} to the journal of the snapshot at {@code filePath}, starting the journal with a header
+     * naming the snapshot if there is no journal yet.
+     */
+    private void appendToJournal(Path filePath, List<String> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        StringBuilder lines = new StringBuilder();
+        if (!Files.exists(journalFilePath)) {
+            lines.append(JsonUtil.toCompactJsonString(new JsonAdaptedJournalHeader(snapshotId)))
+                    .append(System.lineSeparator());
+        }
+        for (String entry : entries) {
+            lines.append(entry).append(System.lineSeparator());
+        }
+        String content = lines.toString();
+        FileUtil.appendToFile(journalFilePath, content, getDurabilityPolicy());
+        addBytesWritten(content.getBytes(StandardCharsets.UTF_8).length);
+        journalEntryCount += entries.size();
+    }
+
+    /**
+     * Folds the journal at {@code filePath} into a new snapshot.
+     * The snapshot is rebuilt from the files rather than from the address book being saved, as entries recorded
+     * after that address book was captured may already be in the journal.
+     */
+    private void compact(Path filePath) throws IOException {
+        logger.info("Compacting " + journalEntryCount + " journal entries into " + filePath);
+        try {
+            ReadOnlyAddressBook current = readAddressBook(filePath).orElseGet(AddressBook::new);
+            super.saveAddressBook(current, filePath);
+        } catch (DataLoadingException e) {
+            throw new IOException("Could not compact journal: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Records that the snapshot at {@code filePath} has id {@code currentSnapshotId} and is followed by
+     * {@code entryCount} journal entries. A null id means the journal cannot be appended to, so that the next save
+     * writes a full snapshot.
+     */
+    private void markSnapshotCurrent(Path filePath, String currentSnapshotId, int entryCount) {
+        if (filePath.equals(getAddressBookFilePath())) {
+            snapshotId = currentSnapshotId;
+            isSnapshotCurrent = currentSnapshotId != null;
+            journalEntryCount = entryCount;
+        }
+    }
+
+    private static List<String> readJournal(Path journalFilePath) throws DataLoadingException {
+        try {
+            return Files.readAllLines(journalFilePath);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns true if {@code lines} start with a header naming the snapshot with id {@code snapshotId}.
+     */
+    private static boolean isJournalOf(List<String> lines, String snapshotId) {
+        if (lines.isEmpty()) {
+            return false;
+        }
+        try {
+            return JsonUtil.fromJsonString(lines.get(0), JsonAdaptedJournalHeader.class).isFor(snapshotId);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Applies each entry in {@code lines}, read from the journal at {@code journalFilePath}, to {@code addressBook}.
+     * An unreadable last line is ignored, as it is the result of an interrupted append.
+     *
+     * @return the number of entries applied.
+     * @throws DataLoadingException if any other entry cannot be read or applied.
+     */
+    private static int replayJournal(Path journalFilePath, List<String> lines, AddressBook addressBook)
+            throws DataLoadingException {
+        int appliedCount = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry in " + journalFilePath);
+                    break;
+                }
+                throw new DataLoadingException(e);
+            }
+
+            try {
+                entry.applyTo(addressBook);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+            appliedCount++;
+        }
+        return appliedCount;
+    }
+}
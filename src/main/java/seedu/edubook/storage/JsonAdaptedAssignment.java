@@ -14,6 +14,7 @@ import seedu.edubook.logic.commands.MarkCommand;
 import seedu.edubook.model.assignment.Assignment;
 import seedu.edubook.model.assignment.AssignmentName;
 import seedu.edubook.model.tag.Tag;
+import seedu.edubook.model.util.ValuePools;
 
 /**
  * Jackson-friendly version of {@link Assignment}.
@@ -66,7 +67,7 @@ class JsonAdaptedAssignment {
             logger.info(() -> "File corrupted: Invalid assignment name - " + assignmentName);
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Assignment(new AssignmentName(assignmentName), isDone);
+        return new Assignment(ValuePools.ASSIGNMENT_NAMES.intern(assignmentName), isDone);
     }
 
 }
@@ -0,0 +1,82 @@
+package seedu.edubook.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.edubook.commons.exceptions.IllegalValueException;
+import seedu.edubook.model.AddressBook;
+import seedu.edubook.model.person.Person;
+import seedu.edubook.model.person.PersonName;
+import seedu.edubook.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * Jackson-friendly version of a single change to the persons in an address book, as recorded in a journal.
+ * A change either puts a person into the address book, replacing any person with the same name, or deletes the
+ * person with a given name. Applying an entry more than once has the same effect as applying it once.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String OPERATION_PUT = "put";
+    public static final String OPERATION_DELETE = "delete";
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry is invalid: %s";
+
+    private final String operation;
+    private final String name;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") String operation,
+                                   @JsonProperty("name") String name,
+                                   @JsonProperty("person") JsonAdaptedPerson person) {
+        this.operation = operation;
+        this.name = name;
+        this.person = person;
+    }
+
+    /**
+     * Returns an entry that puts {@code person} into the address book.
+     */
+    public static JsonAdaptedJournalEntry put(Person person) {
+        return new JsonAdaptedJournalEntry(OPERATION_PUT, null, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns an entry that deletes the person named {@code name} from the address book.
+     */
+    public static JsonAdaptedJournalEntry delete(PersonName name) {
+        return new JsonAdaptedJournalEntry(OPERATION_DELETE, name.fullName, null);
+    }
+
+    /**
+     * Applies this change to {@code addressBook}.
+     *
+     * @throws IllegalValueException if this entry is malformed or holds invalid person data.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        if (OPERATION_PUT.equals(operation) && person != null) {
+            Person toPut = person.toModelType();
+            if (addressBook.hasPerson(toPut)) {
+                addressBook.setPerson(addressBook.getPerson(toPut.getName()), toPut);
+            } else {
+                addressBook.addPerson(toPut);
+            }
+            return;
+        }
+
+        if (OPERATION_DELETE.equals(operation) && name != null && PersonName.isValidName(name)) {
+            try {
+                addressBook.removePerson(addressBook.getPerson(new PersonName(name)));
+            } catch (PersonNotFoundException e) {
+                // Already absent, e.g. when the entry was applied to a snapshot that includes the deletion.
+            }
+            return;
+        }
+
+        throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, operation));
+    }
+}
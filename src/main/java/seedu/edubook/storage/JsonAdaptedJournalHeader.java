@@ -0,0 +1,28 @@
+package seedu.edubook.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the first line of a journal, which names the snapshot that the journal's changes
+ * were made on top of.
+ */
+class JsonAdaptedJournalHeader {
+
+    private final String snapshotId;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} for the snapshot with the given id.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("snapshotId") String snapshotId) {
+        this.snapshotId = snapshotId;
+    }
+
+    /**
+     * Returns true if this header names the snapshot with id {@code snapshotId}.
+     */
+    public boolean isFor(String snapshotId) {
+        return this.snapshotId != null && this.snapshotId.equals(snapshotId);
+    }
+}
@@ -15,6 +15,7 @@ import seedu.edubook.commons.exceptions.IllegalValueException;
 import seedu.edubook.commons.util.StringUtil;
 import seedu.edubook.logic.commands.MarkCommand;
 import seedu.edubook.model.assignment.Assignment;
+import seedu.edubook.model.assignment.AssignmentSet;
 import seedu.edubook.model.commons.Name;
 import seedu.edubook.model.label.Label;
 import seedu.edubook.model.person.Email;
@@ -23,6 +24,7 @@ import seedu.edubook.model.person.PersonName;
 import seedu.edubook.model.person.Phone;
 import seedu.edubook.model.person.TuitionClass;
 import seedu.edubook.model.tag.Tag;
+import seedu.edubook.model.util.ValuePools;
 
 
 /**
@@ -78,9 +80,11 @@ class JsonAdaptedPerson {
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
-        assignments.addAll(source.getAssignments().stream()
-                .map(JsonAdaptedAssignment::new)
-                .collect(Collectors.toList()));
+        AssignmentSet sourceAssignments = source.getAssignmentSet();
+        for (int id = sourceAssignments.nextAssigned(0); id >= 0; id = sourceAssignments.nextAssigned(id + 1)) {
+            assignments.add(new JsonAdaptedAssignment(sourceAssignments.getName(id).fullName,
+                    sourceAssignments.isDone(id)));
+        }
         label = (source.getLabel().isEmpty()) ? "" : source.getLabel().labelContent;
     }
 
@@ -167,7 +171,7 @@ class JsonAdaptedPerson {
 
         final Label modelLabel = convertLabel(label);
 
-        final TuitionClass modelClass = new TuitionClass(tuitionClass);
+        final TuitionClass modelClass = ValuePools.TUITION_CLASSES.intern(tuitionClass);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
@@ -194,7 +198,7 @@ class JsonAdaptedPerson {
             throw new IllegalValueException(Label.MESSAGE_CONSTRAINTS);
         }
 
-        return new Label(label);
+        return ValuePools.LABELS.intern(label);
     }
 
 }
@@ -12,6 +12,7 @@ import seedu.edubook.commons.exceptions.IllegalValueException;
 import seedu.edubook.commons.util.StringUtil;
 import seedu.edubook.logic.commands.MarkCommand;
 import seedu.edubook.model.tag.Tag;
+import seedu.edubook.model.util.ValuePools;
 
 /**
  * Jackson-friendly version of {@link Tag}.
@@ -61,7 +62,7 @@ class JsonAdaptedTag {
             logger.info(() -> "File corrupted: Invalid tag name - " + tagName);
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
+        return ValuePools.TAGS.intern(tagName);
     }
 
 }
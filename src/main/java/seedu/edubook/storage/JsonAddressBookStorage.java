@@ -3,34 +3,85 @@ package seedu.edubook.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.edubook.commons.core.DurabilityPolicy;
 import seedu.edubook.commons.core.LogsCenter;
 import seedu.edubook.commons.exceptions.DataLoadingException;
 import seedu.edubook.commons.exceptions.IllegalValueException;
 import seedu.edubook.commons.util.FileUtil;
 import seedu.edubook.commons.util.JsonUtil;
+import seedu.edubook.model.AddressBook;
 import seedu.edubook.model.ReadOnlyAddressBook;
+import seedu.edubook.model.person.Person;
+import seedu.edubook.model.util.ValuePools;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file has the structure of {@link JsonSerializableAddressBook}, but is read and written one person at a time,
+ * so that only a single person is held in its json form at any point.
+ * <p>
+ * Saving replaces the file atomically, so that a crash during a save leaves the previous file intact, and keeps
+ * the given number of previous versions of the file as backups. Each saved file is given a new random id, so that
+ * a journal can tell which version of the file it was written on top of.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String PERSONS_FIELD_NAME = "persons";
+    private static final String SNAPSHOT_ID_FIELD_NAME = "snapshotId";
+
     private Path filePath;
+    private final DurabilityPolicy durabilityPolicy;
+    private final int backupCount;
+    private final AtomicLong bytesWritten = new AtomicLong();
 
+    /**
+     * Creates a {@code JsonAddressBookStorage} at {@code filePath} that flushes each saved file to disk and
+     * keeps no backups.
+     */
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, DurabilityPolicy.FILE, 0);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} at {@code filePath}.
+     *
+     * @param durabilityPolicy How far each save waits for the file to reach the disk.
+     * @param backupCount Number of previous versions of the file to keep.
+     */
+    public JsonAddressBookStorage(Path filePath, DurabilityPolicy durabilityPolicy, int backupCount) {
+        requireNonNull(durabilityPolicy);
+        if (backupCount < 0) {
+            throw new IllegalArgumentException("Backup count must not be negative");
+        }
         this.filePath = filePath;
+        this.durabilityPolicy = durabilityPolicy;
+        this.backupCount = backupCount;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    protected DurabilityPolicy getDurabilityPolicy() {
+        return durabilityPolicy;
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(filePath);
@@ -43,16 +94,29 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readSnapshot(filePath).map(snapshot -> snapshot.addressBook);
+    }
+
+    /**
+     * Reads the address book at {@code filePath} together with the id it was saved with.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    Optional<Snapshot> readSnapshot(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (JsonParser parser = JsonUtil.createFileParser(filePath)) {
+            Snapshot snapshot = readPersons(parser);
+            logger.info(ValuePools::getSummary);
+            return Optional.of(snapshot);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -66,15 +130,138 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Since the file then holds all the data, any journal of changes made on top of an earlier version of the file
+     * is discarded.
      *
      * @param filePath location of the data. Cannot be null.
      */
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        writeSnapshot(addressBook, filePath);
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath} under a new id, and discards any journal at that location.
+     *
+     * @return the id the address book was saved with.
+     */
+    String writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        String snapshotId = UUID.randomUUID().toString();
+        FileUtil.writeAtomically(filePath, tempFilePath -> {
+            try (JsonGenerator generator = JsonUtil.createFileGenerator(tempFilePath)) {
+                writePersons(snapshotId, addressBook, generator);
+            }
+        }, durabilityPolicy, backupCount);
+        addBytesWritten(Files.size(filePath));
+        // A crash before this point leaves a journal that names the previous id, which readers then ignore.
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        return snapshotId;
+    }
+
+    @Override
+    public List<Path> getBackupFilePaths() {
+        List<Path> backupFilePaths = new ArrayList<>();
+        for (int generation = 1; generation <= backupCount; generation++) {
+            Path backupFilePath = FileUtil.getBackupFilePath(filePath, generation);
+            if (Files.exists(backupFilePath)) {
+                backupFilePaths.add(backupFilePath);
+            }
+        }
+        return backupFilePaths;
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    /**
+     * Adds {@code byteCount} to the number of bytes written by this storage.
+     */
+    protected void addBytesWritten(long byteCount) {
+        bytesWritten.addAndGet(byteCount);
+    }
+
+    /**
+     * Reads an address book from {@code parser}, converting each person into the model as soon as it is read.
+     * Fields other than the id and the list of persons are skipped.
+     *
+     * @throws IOException if the data is not in the expected json structure.
+     * @throws IllegalValueException if any person is invalid or duplicated.
+     */
+    private static Snapshot readPersons(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected address book data to be a json object");
+        }
+
+        AddressBook addressBook = new AddressBook();
+        String snapshotId = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (SNAPSHOT_ID_FIELD_NAME.equals(fieldName) && valueToken == JsonToken.VALUE_STRING) {
+                snapshotId = parser.getText();
+                continue;
+            }
+            if (!PERSONS_FIELD_NAME.equals(fieldName) || valueToken == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (valueToken != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected " + PERSONS_FIELD_NAME + " to be a json array");
+            }
+
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                Person person = JsonUtil.readValue(parser, JsonAdaptedPerson.class).toModelType();
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+            }
+        }
+        return new Snapshot(addressBook, snapshotId);
+    }
+
+    /**
+     * Writes {@code snapshotId} and the persons in {@code addressBook} to {@code generator}, converting each person
+     * as it is written.
+     */
+    private static void writePersons(String snapshotId, ReadOnlyAddressBook addressBook, JsonGenerator generator)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(SNAPSHOT_ID_FIELD_NAME, snapshotId);
+        generator.writeFieldName(PERSONS_FIELD_NAME);
+        generator.writeStartArray();
+        for (Person person : addressBook.getPersonList()) {
+            JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Returns the location of the journal of changes made on top of the address book data at {@code filePath}.
+     *
+     * @see JournaledAddressBookStorage
+     */
+    static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * An address book as read from a file, with the id it was saved with.
+     */
+    static class Snapshot {
+        final ReadOnlyAddressBook addressBook;
+        /** Null if the file was saved without an id. */
+        final String id;
+
+        Snapshot(ReadOnlyAddressBook addressBook, String id) {
+            this.addressBook = addressBook;
+            this.id = id;
+        }
     }
 
 }
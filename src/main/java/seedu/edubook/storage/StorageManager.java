@@ -2,6 +2,7 @@ package seedu.edubook.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -75,4 +76,14 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public List<Path> getBackupFilePaths() {
+        return addressBookStorage.getBackupFilePaths();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return addressBookStorage.getBytesWritten();
+    }
+
 }
@@ -1,13 +1,21 @@
 package seedu.edubook.ui;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.edubook.model.assignment.Assignment;
 import seedu.edubook.model.person.Person;
+import seedu.edubook.model.tag.Tag;
 
 /**
  * An UI component that displays information of a {@code Person}.
@@ -15,6 +23,7 @@ import seedu.edubook.model.person.Person;
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
+    private static final String DONE_ASSIGNMENT_STYLE = "-fx-background-color: #198754;";
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -24,7 +33,7 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -45,30 +54,52 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private Label label;
 
+    /**
+     * Creates an empty {@code PersonCard}, to be filled in with {@link #setPerson(Person, int)}.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Displays {@code person} with {@code displayedIndex} on this card, replacing what was displayed before.
+     * The nodes of this card are updated in place, and tag and assignment chips are reused where possible.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        requireNonNull(person);
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         tuitionClass.setText(person.getTuitionClass().value);
         email.setText(person.getEmail().value);
-        person.getTags().stream()
+
+        List<Tag> sortedTags = person.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        person.getAssignments().stream()
+                .collect(Collectors.toList());
+        bindChips(tags, sortedTags.size(), (chip, i) -> chip.setText(sortedTags.get(i).tagName));
+
+        List<Assignment> sortedAssignments = person.getAssignments().stream()
                 .sorted(Comparator.comparing(a -> a.assignmentName.fullName))
-                .forEach(assignment -> {
-                    Label assignmentLabel = new Label(assignment.assignmentName.fullName);
-
-                    if (assignment.isDone()) {
-                        assignmentLabel.setStyle("-fx-background-color: #198754;");
-                    }
-                    assignments.getChildren().add(assignmentLabel);
-                });
+                .collect(Collectors.toList());
+        bindChips(assignments, sortedAssignments.size(), (chip, i) -> {
+            Assignment assignment = sortedAssignments.get(i);
+            chip.setText(assignment.assignmentName.fullName);
+            chip.setStyle(assignment.isDone() ? DONE_ASSIGNMENT_STYLE : "");
+        });
+
         if (person.getLabel().isEmpty()) {
             label.setVisible(false);
             label.setManaged(false);
@@ -78,4 +109,30 @@ public class PersonCard extends UiPart<Region> {
             label.setManaged(true);
         }
     }
+
+    /**
+     * Shows {@code count} chips in {@code pane}, filling in the i-th chip with {@code binder}.
+     * Existing chips are reused, new chips are only created when {@code pane} has fewer than {@code count},
+     * and surplus chips are hidden rather than discarded so that later persons can reuse them.
+     */
+    private static void bindChips(FlowPane pane, int count, BiConsumer<Label, Integer> binder) {
+        List<Node> chips = pane.getChildren();
+        for (int i = 0; i < count; i++) {
+            Label chip;
+            if (i < chips.size()) {
+                chip = (Label) chips.get(i);
+            } else {
+                chip = new Label();
+                chips.add(chip);
+            }
+            binder.accept(chip, i);
+            chip.setVisible(true);
+            chip.setManaged(true);
+        }
+        for (int i = count; i < chips.size(); i++) {
+            Node chip = chips.get(i);
+            chip.setVisible(false);
+            chip.setManaged(false);
+        }
+    }
 }
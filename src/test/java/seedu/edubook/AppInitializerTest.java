@@ -0,0 +1,37 @@
+package seedu.edubook;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edubook.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.edubook.commons.core.Config;
+import seedu.edubook.model.UserPrefs;
+import seedu.edubook.storage.AddressBookStorage;
+import seedu.edubook.storage.JournaledAddressBookStorage;
+
+public class AppInitializerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void initAddressBookStorage_nonPositiveCompactionThreshold_usesJournalWithDefaultThreshold()
+            throws Exception {
+        Config config = new Config();
+        config.setJournalEnabled(true);
+        config.setJournalCompactionThreshold(0);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(testFolder.resolve("addressBook.json"));
+
+        AddressBookStorage storage = AppInitializer.initAddressBookStorage(config, userPrefs);
+
+        assertTrue(storage instanceof JournaledAddressBookStorage);
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+    }
+}
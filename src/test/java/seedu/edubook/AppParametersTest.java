@@ -39,10 +39,43 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_batchScriptFromStdin_success() {
+        parametersStub.namedParameters.put("batch", AppParameters.STDIN_BATCH_SCRIPT);
+        expected.setBatchMode(true, null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidBatchScriptPath_notBatchMode() {
+        parametersStub.namedParameters.put("batch", "a\0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidCheckpointInterval_savesOnlyAtEnd() {
+        parametersStub.namedParameters.put("checkpoint", "-5");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("checkpoint", "often");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setBatchMode(true, Paths.get("grades.txt"));
+        expected.setCheckpointInterval(500);
+        assertEquals(expected, AppParameters.parse(new String[] {
+            "--config=config.json", "--batch=grades.txt", "--checkpoint=500", "unnamed", "--flag"
+        }));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", isBatchMode=false, batchScriptPath=null, checkpointInterval=0}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +99,16 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different batch script -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setBatchMode(true, null);
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different checkpoint interval -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setCheckpointInterval(10);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
@@ -12,7 +12,12 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", journalEnabled=" + config.isJournalEnabled()
+                + ", journalCompactionThreshold=" + config.getJournalCompactionThreshold()
+                + ", durabilityPolicy=" + config.getDurabilityPolicy()
+                + ", backupCount=" + config.getBackupCount()
+                + ", undoHistoryDepth=" + config.getUndoHistoryDepth() + "}";
         assertEquals(expected, config.toString());
     }
 
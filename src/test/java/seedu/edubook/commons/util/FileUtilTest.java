@@ -1,13 +1,23 @@
 package seedu.edubook.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edubook.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.edubook.commons.core.DurabilityPolicy;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,55 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void appendToFile_eachPolicy_appendsToEnd() throws Exception {
+        Path file = testFolder.resolve("data.journal");
+        StringBuilder expected = new StringBuilder();
+        for (DurabilityPolicy policy : DurabilityPolicy.values()) {
+            FileUtil.appendToFile(file, policy.name(), policy);
+            expected.append(policy.name());
+        }
+
+        assertEquals(expected.toString(), FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeAtomically_newFile_createsFileAndParentDirs() throws Exception {
+        Path file = testFolder.resolve("sub").resolve("data.json");
+        FileUtil.writeAtomically(file, temp -> FileUtil.writeToFile(temp, "first"), DurabilityPolicy.FILE, 2);
+
+        assertEquals("first", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.isFileExists(FileUtil.getBackupFilePath(file, 1)));
+        assertFalse(FileUtil.isFileExists(file.resolveSibling("data.json" + FileUtil.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void writeAtomically_existingFile_keepsBackupCountGenerations() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        for (String content : new String[] {"first", "second", "third", "fourth"}) {
+            FileUtil.writeAtomically(file, temp -> FileUtil.writeToFile(temp, content),
+                    DurabilityPolicy.FILE_AND_DIRECTORY, 2);
+        }
+
+        assertEquals("fourth", FileUtil.readFromFile(file));
+        assertEquals("third", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 1)));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 2)));
+        assertFalse(FileUtil.isFileExists(FileUtil.getBackupFilePath(file, 3)));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_originalFileUnchanged() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeAtomically(file, temp -> FileUtil.writeToFile(temp, "original"), DurabilityPolicy.NONE, 1);
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, temp -> {
+            FileUtil.writeToFile(temp, "partial");
+            throw new IOException("disk full");
+        }, DurabilityPolicy.NONE, 1));
+
+        assertEquals("original", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.isFileExists(FileUtil.getBackupFilePath(file, 1)));
+        assertFalse(FileUtil.isFileExists(file.resolveSibling("data.json" + FileUtil.TEMP_FILE_SUFFIX)));
+    }
+
 }
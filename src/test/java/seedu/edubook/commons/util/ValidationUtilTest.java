@@ -0,0 +1,94 @@
+package seedu.edubook.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edubook.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    private static final List<String> SAMPLE_INPUTS = List.of("", " ", "a", "Z", "0", "abc", "Alex Yeoh",
+            " leading", "trailing ", "two  spaces", "tab\there", "new\nline", "cr\rhere", "form\ffeed",
+            "vertical\u000Btab", "\t", "\n", "123", "12", "1234567890", "12 34", "-123", "café",
+            "١٢٣", " ", "under_score", "peter*", "Class 1-A");
+
+    //---------------- Tests for isAlphanumericWithSpaces --------------------------------------
+
+    @Test
+    public void isAlphanumericWithSpaces_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericWithSpaces(null));
+    }
+
+    @Test
+    public void isAlphanumericWithSpaces() {
+        // EP: empty and blank strings
+        assertFalse(ValidationUtil.isAlphanumericWithSpaces(""));
+        assertFalse(ValidationUtil.isAlphanumericWithSpaces(" "));
+
+        // EP: leading space
+        assertFalse(ValidationUtil.isAlphanumericWithSpaces(" abc"));
+
+        // EP: non-space whitespace or symbols
+        assertFalse(ValidationUtil.isAlphanumericWithSpaces("ab\tc"));
+        assertFalse(ValidationUtil.isAlphanumericWithSpaces("peter*"));
+
+        // EP: non-ASCII letters
+        assertFalse(ValidationUtil.isAlphanumericWithSpaces("café"));
+
+        // EP: valid
+        assertTrue(ValidationUtil.isAlphanumericWithSpaces("a"));
+        assertTrue(ValidationUtil.isAlphanumericWithSpaces("Alex Yeoh 2nd "));
+
+        assertMatchesRegex("[\\p{Alnum}][\\p{Alnum} ]*", ValidationUtil::isAlphanumericWithSpaces);
+    }
+
+    //---------------- Tests for isAlphanumericOrWhitespace --------------------------------------
+
+    @Test
+    public void isAlphanumericOrWhitespace() {
+        assertFalse(ValidationUtil.isAlphanumericOrWhitespace(""));
+        assertFalse(ValidationUtil.isAlphanumericOrWhitespace("friend*"));
+        assertTrue(ValidationUtil.isAlphanumericOrWhitespace(" "));
+        assertTrue(ValidationUtil.isAlphanumericOrWhitespace("best\tfriend"));
+
+        assertMatchesRegex("[\\p{Alnum}\\p{Space}]+", ValidationUtil::isAlphanumericOrWhitespace);
+    }
+
+    //---------------- Tests for isDigits --------------------------------------
+
+    @Test
+    public void isDigits() {
+        assertFalse(ValidationUtil.isDigits("12", 3)); // Boundary value
+        assertFalse(ValidationUtil.isDigits("12a", 3));
+        assertFalse(ValidationUtil.isDigits("١٢٣", 3)); // non-ASCII digits
+        assertTrue(ValidationUtil.isDigits("123", 3)); // Boundary value
+        assertTrue(ValidationUtil.isDigits("", 0));
+
+        assertMatchesRegex("\\d{3,}", test -> ValidationUtil.isDigits(test, 3));
+    }
+
+    //---------------- Tests for matches --------------------------------------
+
+    @Test
+    public void matches() {
+        Pattern pattern = Pattern.compile("[^\\s].*");
+        assertFalse(ValidationUtil.matches(" a", pattern));
+        assertFalse(ValidationUtil.matches("a\nb", pattern));
+        assertTrue(ValidationUtil.matches("Class 1-A", pattern));
+    }
+
+    /**
+     * Asserts that {@code validator} accepts exactly the sample inputs that fully match {@code regex}.
+     */
+    private void assertMatchesRegex(String regex, Predicate<String> validator) {
+        for (String input : SAMPLE_INPUTS) {
+            assertEquals(input.matches(regex), validator.test(input), "Input: \"" + input + "\"");
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.edubook.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edubook.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.edubook.logic.commands.CommandTestUtil.CLASS_DESC_AMY;
+import static seedu.edubook.logic.commands.CommandTestUtil.CLASS_DESC_BOB;
+import static seedu.edubook.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.edubook.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.edubook.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.edubook.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.edubook.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.edubook.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.edubook.testutil.Assert.assertThrows;
+import static seedu.edubook.testutil.TypicalPersons.AMY;
+import static seedu.edubook.testutil.TypicalPersons.BOB;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.edubook.logic.commands.AddCommand;
+import seedu.edubook.logic.commands.ExitCommand;
+import seedu.edubook.model.Model;
+import seedu.edubook.model.ModelManager;
+import seedu.edubook.model.ReadOnlyAddressBook;
+import seedu.edubook.storage.JsonAddressBookStorage;
+import seedu.edubook.storage.JsonUserPrefsStorage;
+import seedu.edubook.storage.StorageManager;
+import seedu.edubook.testutil.PersonBuilder;
+
+public class BatchRunnerTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+            + CLASS_DESC_AMY;
+    private static final String ADD_BOB = AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB
+            + CLASS_DESC_BOB;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream errors = new ByteArrayOutputStream();
+    private final PrintStream errorStream = new PrintStream(errors, true);
+    private SaveCountingStorage addressBookStorage;
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        addressBookStorage = new SaveCountingStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
+    @Test
+    public void constructor_negativeCheckpointInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner(logic, -1, errorStream));
+    }
+
+    @Test
+    public void run_noCheckpoints_reportsFailuresAndSavesOnceAtEnd() throws Exception {
+        BatchRunner batchRunner = new BatchRunner(logic, 0, errorStream);
+        batchRunner.run(script("# grading export", ADD_AMY, "", "gradeall", ADD_BOB));
+
+        assertEquals(3, batchRunner.getExecutedCount());
+        assertEquals(1, batchRunner.getFailedCount());
+        assertEquals(String.format(BatchRunner.MESSAGE_SUMMARY, 3, 1), batchRunner.getSummary());
+        assertTrue(errors.toString().contains(String.format(BatchRunner.MESSAGE_COMMAND_FAILED, 4,
+                MESSAGE_UNKNOWN_COMMAND)));
+
+        assertEquals(1, addressBookStorage.saveCount);
+        assertEquals(model.getAddressBook(), addressBookStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void run_withCheckpoints_savesAtEachCheckpoint() throws Exception {
+        new BatchRunner(logic, 1, errorStream).run(script(ADD_AMY, ADD_BOB));
+
+        // no changes are left to save at the end
+        assertEquals(2, addressBookStorage.saveCount);
+        assertEquals(model.getAddressBook(), addressBookStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void run_exitCommand_stopsExecuting() throws Exception {
+        BatchRunner batchRunner = new BatchRunner(logic, 0, errorStream);
+        batchRunner.run(script(ADD_AMY, ExitCommand.COMMAND_WORD, ADD_BOB));
+
+        assertEquals(2, batchRunner.getExecutedCount());
+        assertTrue(model.hasPerson(new PersonBuilder(AMY).withTags().build()));
+        assertFalse(model.hasPerson(BOB));
+    }
+
+    @Test
+    public void run_afterRun_savesAfterEachCommandAgain() throws Exception {
+        new BatchRunner(logic, 0, errorStream).run(script());
+
+        logic.execute(ADD_AMY);
+        logic.flush();
+        assertEquals(1, addressBookStorage.saveCount);
+    }
+
+    private static BufferedReader script(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", lines)));
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that counts the number of saves.
+     */
+    private static class SaveCountingStorage extends JsonAddressBookStorage {
+        private int saveCount = 0;
+
+        SaveCountingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+}
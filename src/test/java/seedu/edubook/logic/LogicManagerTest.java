@@ -1,6 +1,8 @@
 package seedu.edubook.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edubook.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.edubook.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.edubook.logic.commands.CommandTestUtil.CLASS_DESC_AMY;
@@ -12,7 +14,10 @@ import static seedu.edubook.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,8 +26,12 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.edubook.logic.commands.AddCommand;
 import seedu.edubook.logic.commands.CommandResult;
 import seedu.edubook.logic.commands.ListCommand;
+import seedu.edubook.logic.commands.MetricsCommand;
+import seedu.edubook.logic.commands.RedoCommand;
+import seedu.edubook.logic.commands.UndoCommand;
 import seedu.edubook.logic.commands.exceptions.CommandException;
 import seedu.edubook.logic.parser.exceptions.ParseException;
+import seedu.edubook.model.AddressBook;
 import seedu.edubook.model.Model;
 import seedu.edubook.model.ModelManager;
 import seedu.edubook.model.ReadOnlyAddressBook;
@@ -42,11 +51,11 @@ public class LogicManagerTest {
 
     private Model model = new ModelManager();
     private Logic logic;
+    private JsonAddressBookStorage addressBookStorage;
 
     @BeforeEach
     public void setUp() {
-        JsonAddressBookStorage addressBookStorage =
-                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
@@ -71,14 +80,73 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flush();
+        assertFalse(Files.exists(addressBookStorage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void execute_mutatingCommand_savesInBackground() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + CLASS_DESC_AMY);
+        logic.flush();
+        assertTrue(Files.exists(addressBookStorage.getAddressBookFilePath()));
+        assertEquals(model.getAddressBook(), addressBookStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void execute_readOnlyCommandAfterSave_doesNotSaveAgain() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + CLASS_DESC_AMY);
+        logic.flush();
+        long bytesWritten = addressBookStorage.getBytesWritten();
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flush();
+        assertEquals(bytesWritten, addressBookStorage.getBytesWritten());
+    }
+
+    @Test
+    public void execute_metricsCommand_showsRecordedMetrics() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + CLASS_DESC_AMY);
+        logic.flush();
+        String summary = logic.execute(MetricsCommand.COMMAND_WORD).getFeedbackToUser();
+
+        assertTrue(summary.contains(AddCommand.COMMAND_WORD + " (1 runs)"));
+        assertTrue(summary.contains("save (ms)"));
+        assertTrue(summary.contains("persons touched: 1.00 / 1.00 / 1.00"));
+        // the metrics command has been parsed but has not finished executing yet
+        assertTrue(summary.contains(MetricsCommand.COMMAND_WORD + " (0 runs)"));
+    }
+
+    @Test
+    public void execute_undoAfterMutatingCommand_restoresAndSavesPreviousState() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + CLASS_DESC_AMY);
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_SUCCESS, new ModelManager());
+        logic.flush();
+        assertEquals(new AddressBook(), addressBookStorage.readAddressBook().get());
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertTrue(model.canRedoAddressBook());
+        logic.execute(RedoCommand.COMMAND_WORD);
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void shutdown_pendingChanges_savesChanges() throws Exception {
+        model.addPerson(AMY);
+        logic.shutdown();
+        assertEquals(model.getAddressBook(), addressBookStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
+        assertSaveFailureReportedForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveFailure() throws Exception {
+        assertSaveFailureReportedForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
@@ -144,9 +212,10 @@ public class LogicManagerTest {
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be reported to the save failure handler
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveFailureReportedForExceptionFromStorage(IOException e, String expectedMessage)
+            throws CommandException, ParseException {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -163,6 +232,8 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         logic = new LogicManager(model, storage);
+        List<String> reportedMessages = new ArrayList<>();
+        logic.setSaveFailureHandler(reportedMessages::add);
 
         // Triggers the saveAddressBook method by executing an add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
@@ -170,6 +241,10 @@ public class LogicManagerTest {
         Person expectedPerson = new PersonBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        logic.execute(addCommand);
+        logic.flush();
+
+        assertEquals(List.of(expectedMessage), reportedMessages);
+        assertEquals(expectedModel, model);
     }
 }
@@ -10,7 +10,9 @@ import static seedu.edubook.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.SortedMap;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,7 @@ import seedu.edubook.commons.core.GuiSettings;
 import seedu.edubook.logic.Messages;
 import seedu.edubook.logic.commands.exceptions.CommandException;
 import seedu.edubook.model.AddressBook;
+import seedu.edubook.model.CompletionStats;
 import seedu.edubook.model.Model;
 import seedu.edubook.model.ReadOnlyAddressBook;
 import seedu.edubook.model.ReadOnlyUserPrefs;
@@ -138,6 +141,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -158,16 +171,81 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> findPersonsByNameKeywords(Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public List<Person> findPersonsByClass(TuitionClass tuitionClass) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int countPersonsByClass(TuitionClass tuitionClass) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public List<Person> findPersonsByAssignmentName(AssignmentName assignmentName) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int countPersonsWithAssignment(AssignmentName assignmentName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CompletionStats getCompletionStats(TuitionClass tuitionClass, AssignmentName assignmentName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SortedMap<AssignmentName, CompletionStats> getCompletionStatsByAssignment(TuitionClass tuitionClass) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SortedMap<TuitionClass, CompletionStats> getCompletionStatsByClass(AssignmentName assignmentName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -408,7 +408,7 @@ public class MarkCommandTest {
         }
 
         @Override
-        public void markAssignment(AssignmentName assignmentName)
+        public Person withMarkedAssignment(AssignmentName assignmentName)
                 throws AssignmentMarkedException, AssignmentNotFoundException {
             if (alreadyMarked) {
                 throw new AssignmentMarkedException();
@@ -416,6 +416,7 @@ public class MarkCommandTest {
             if (missingAssignment) {
                 throw new AssignmentNotFoundException("dummy");
             }
+            return this;
         }
     }
 }
@@ -0,0 +1,52 @@
+package seedu.edubook.logic.commands;
+
+import static seedu.edubook.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.edubook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.edubook.testutil.TypicalPersons.ALICE;
+import static seedu.edubook.testutil.TypicalPersons.BENSON;
+import static seedu.edubook.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.edubook.model.Model;
+import seedu.edubook.model.ModelManager;
+import seedu.edubook.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @BeforeEach
+    public void setUp() {
+        // set up of both models' undo/redo history
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        model.deletePerson(BENSON);
+        model.commitAddressBook();
+        model.undoAddressBook();
+        model.undoAddressBook();
+
+        expectedModel.deletePerson(ALICE);
+        expectedModel.commitAddressBook();
+        expectedModel.deletePerson(BENSON);
+        expectedModel.commitAddressBook();
+        expectedModel.undoAddressBook();
+        expectedModel.undoAddressBook();
+    }
+
+    @Test
+    public void execute() {
+        // multiple redoable states in model
+        expectedModel.redoAddressBook();
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // single redoable state in model
+        expectedModel.redoAddressBook();
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // no redoable states in model
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.edubook.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edubook.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.edubook.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.edubook.model.AddressBook;
+import seedu.edubook.model.Model;
+import seedu.edubook.model.ModelManager;
+import seedu.edubook.model.UserPrefs;
+import seedu.edubook.model.assignment.AssignmentName;
+import seedu.edubook.model.person.TuitionClass;
+import seedu.edubook.model.target.ClassTarget;
+import seedu.edubook.testutil.AddressBookBuilder;
+import seedu.edubook.testutil.PersonBuilder;
+
+public class StatsCommandTest {
+
+    private static final TuitionClass CLASS_3A = new TuitionClass("Class 3A");
+    private static final TuitionClass CLASS_3B = new TuitionClass("Class 3B");
+    private static final AssignmentName TUTORIAL = new AssignmentName("Tutorial 6");
+    private static final AssignmentName QUIZ = new AssignmentName("Quiz 1");
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        AddressBook addressBook = new AddressBookBuilder()
+                .withPerson(new PersonBuilder().withName("Amy Tan").withClass("Class 3A")
+                        .withAssignments("Tutorial 6", "Quiz 1").build().withMarkedAssignment(TUTORIAL))
+                .withPerson(new PersonBuilder().withName("Ben Lim").withClass("Class 3A")
+                        .withAssignments("Tutorial 6").build())
+                .withPerson(new PersonBuilder().withName("Cara Ng").withClass("Class 3B")
+                        .withAssignments("Tutorial 6").build().withMarkedAssignment(TUTORIAL))
+                .withPerson(new PersonBuilder().withName("Dan Koh").withClass("Class 3C").build())
+                .build();
+        model = new ModelManager(addressBook, new UserPrefs());
+        expectedModel = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Test
+    public void constructor_noClassOrAssignment_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new StatsCommand(null, null));
+    }
+
+    @Test
+    public void execute_classAndAssignment_showsCounts() {
+        String expectedMessage = String.format(StatsCommand.MESSAGE_CLASS_ASSIGNMENT_STATS, TUTORIAL, CLASS_3A,
+                String.format(StatsCommand.MESSAGE_STATS, 2, 1, 1));
+        assertCommandSuccess(new StatsCommand(CLASS_3A, TUTORIAL), model, expectedMessage, expectedModel);
+
+        // assignment not given to anyone in the class
+        expectedMessage = String.format(StatsCommand.MESSAGE_CLASS_ASSIGNMENT_STATS, QUIZ, CLASS_3B,
+                String.format(StatsCommand.MESSAGE_STATS, 0, 0, 0));
+        assertCommandSuccess(new StatsCommand(CLASS_3B, QUIZ), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_classOnly_showsEachAssignment() {
+        String expectedMessage = String.format(StatsCommand.MESSAGE_CLASS_HEADER, CLASS_3A)
+                + String.format(StatsCommand.MESSAGE_LINE, QUIZ, String.format(StatsCommand.MESSAGE_STATS, 1, 0, 1))
+                + String.format(StatsCommand.MESSAGE_LINE, TUTORIAL,
+                        String.format(StatsCommand.MESSAGE_STATS, 2, 1, 1));
+        assertCommandSuccess(new StatsCommand(CLASS_3A, null), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_assignmentOnly_showsEachClassAndTotal() {
+        String expectedMessage = String.format(StatsCommand.MESSAGE_ASSIGNMENT_HEADER, TUTORIAL)
+                + String.format(StatsCommand.MESSAGE_LINE, CLASS_3A,
+                        String.format(StatsCommand.MESSAGE_STATS, 2, 1, 1))
+                + String.format(StatsCommand.MESSAGE_LINE, CLASS_3B,
+                        String.format(StatsCommand.MESSAGE_STATS, 1, 1, 0))
+                + String.format(StatsCommand.MESSAGE_LINE, StatsCommand.MESSAGE_TOTAL,
+                        String.format(StatsCommand.MESSAGE_STATS, 3, 2, 1));
+        assertCommandSuccess(new StatsCommand(null, TUTORIAL), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unknownClass_throwsCommandException() {
+        TuitionClass unknownClass = new TuitionClass("Class 9Z");
+        String expectedMessage = String.format(ClassTarget.MESSAGE_NO_STUDENTS_FOUND, unknownClass);
+        assertCommandFailure(new StatsCommand(unknownClass, TUTORIAL), model, expectedMessage);
+        assertCommandFailure(new StatsCommand(unknownClass, null), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_classWithoutAssignments_throwsCommandException() {
+        TuitionClass classWithoutAssignments = new TuitionClass("Class 3C");
+        assertCommandFailure(new StatsCommand(classWithoutAssignments, null), model,
+                String.format(StatsCommand.MESSAGE_NO_ASSIGNMENTS_IN_CLASS, classWithoutAssignments));
+    }
+
+    @Test
+    public void execute_assignmentNotAssigned_throwsCommandException() {
+        AssignmentName unassigned = new AssignmentName("Essay 4");
+        assertCommandFailure(new StatsCommand(null, unassigned), model,
+                String.format(StatsCommand.MESSAGE_ASSIGNMENT_NOT_ASSIGNED, unassigned));
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand classCommand = new StatsCommand(CLASS_3A, null);
+        StatsCommand cellCommand = new StatsCommand(CLASS_3A, TUTORIAL);
+
+        // same object -> returns true
+        assertTrue(classCommand.equals(classCommand));
+
+        // same values -> returns true
+        assertTrue(cellCommand.equals(
+                new StatsCommand(new TuitionClass("Class 3A"), new AssignmentName("Tutorial 6"))));
+
+        // null -> returns false
+        assertFalse(classCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(classCommand.equals(1));
+
+        // different assignment -> returns false
+        assertFalse(classCommand.equals(cellCommand));
+
+        // different class -> returns false
+        assertFalse(cellCommand.equals(new StatsCommand(CLASS_3B, TUTORIAL)));
+    }
+}
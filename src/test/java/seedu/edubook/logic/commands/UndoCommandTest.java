@@ -0,0 +1,47 @@
+package seedu.edubook.logic.commands;
+
+import static seedu.edubook.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.edubook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.edubook.testutil.TypicalPersons.ALICE;
+import static seedu.edubook.testutil.TypicalPersons.BENSON;
+import static seedu.edubook.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.edubook.model.Model;
+import seedu.edubook.model.ModelManager;
+import seedu.edubook.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @BeforeEach
+    public void setUp() {
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        model.deletePerson(BENSON);
+        model.commitAddressBook();
+
+        expectedModel.deletePerson(ALICE);
+        expectedModel.commitAddressBook();
+        expectedModel.deletePerson(BENSON);
+        expectedModel.commitAddressBook();
+    }
+
+    @Test
+    public void execute() {
+        // multiple undoable states in model
+        expectedModel.undoAddressBook();
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // single undoable state in model
+        expectedModel.undoAddressBook();
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // no undoable states in model
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+}
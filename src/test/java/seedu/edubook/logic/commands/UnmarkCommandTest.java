@@ -410,7 +410,7 @@ public class UnmarkCommandTest {
         }
 
         @Override
-        public void unmarkAssignment(AssignmentName assignmentName)
+        public Person withUnmarkedAssignment(AssignmentName assignmentName)
                 throws AssignmentUnmarkedException, AssignmentNotFoundException {
             if (alreadyUnmarked) {
                 throw new AssignmentUnmarkedException();
@@ -418,6 +418,7 @@ public class UnmarkCommandTest {
             if (missingAssignment) {
                 throw new AssignmentNotFoundException("dummy");
             }
+            return this;
         }
     }
 }
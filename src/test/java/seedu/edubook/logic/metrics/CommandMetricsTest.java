@@ -0,0 +1,44 @@
+package seedu.edubook.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandMetricsTest {
+
+    @Test
+    public void getSummary_nothingRecorded_returnsNoMetricsMessage() {
+        CommandMetrics metrics = new CommandMetrics();
+        assertTrue(metrics.isEmpty());
+        assertEquals(CommandMetrics.MESSAGE_NO_METRICS, metrics.getSummary());
+    }
+
+    @Test
+    public void getSummary_recordedCommands_listsEachCommand() {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.recordParse("list", 1_000_000);
+        metrics.recordExecution("list", 2_000_000, 0, -1);
+        metrics.recordParse("add", 1_000_000);
+        metrics.recordExecution("add", 3_000_000, 1, 2048);
+        metrics.recordSave("add", 4_000_000, 1024);
+
+        String summary = metrics.getSummary();
+        assertFalse(metrics.isEmpty());
+        assertTrue(summary.contains("add (1 runs)"
+                + "\n  parse (ms):      1.00 / 1.00 / 1.00"
+                + "\n  execute (ms):    3.00 / 3.00 / 3.00"
+                + "\n  save (ms):       4.00 / 4.00 / 4.00"
+                + "\n  persons touched: 1.00 / 1.00 / 1.00"
+                + "\n  allocated (KB):  2.00 / 2.00 / 2.00"
+                + "\n  written (KB):    1.00 / 1.00 / 1.00"));
+
+        // unmeasured allocations and commands that were never saved are left out
+        assertTrue(summary.contains("list (1 runs)"
+                + "\n  parse (ms):      1.00 / 1.00 / 1.00"
+                + "\n  execute (ms):    2.00 / 2.00 / 2.00"
+                + "\n  persons touched: 0.00 / 0.00 / 0.00"));
+        assertFalse(summary.substring(summary.indexOf("list")).contains("save"));
+    }
+}
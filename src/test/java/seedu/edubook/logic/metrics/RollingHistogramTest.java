@@ -0,0 +1,48 @@
+package seedu.edubook.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.edubook.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class RollingHistogramTest {
+
+    @Test
+    public void constructor_nonPositiveWindowSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RollingHistogram(0));
+    }
+
+    @Test
+    public void getPercentile_noSamples_returnsZero() {
+        assertEquals(0, new RollingHistogram(10).getPercentile(50));
+    }
+
+    @Test
+    public void getPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        RollingHistogram histogram = new RollingHistogram(10);
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(0));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101));
+    }
+
+    @Test
+    public void getPercentiles_unorderedSamples_returnsNearestRank() {
+        RollingHistogram histogram = new RollingHistogram(100);
+        for (int i = 100; i >= 1; i--) {
+            histogram.record(i);
+        }
+        assertArrayEquals(new long[] {1, 50, 95, 99, 100}, histogram.getPercentiles(1, 50, 95, 99, 100));
+    }
+
+    @Test
+    public void record_windowFull_dropsOldestSamples() {
+        RollingHistogram histogram = new RollingHistogram(3);
+        histogram.record(1000);
+        histogram.record(1);
+        histogram.record(2);
+        histogram.record(3);
+
+        assertEquals(3, histogram.size());
+        assertEquals(3, histogram.getPercentile(100));
+    }
+}
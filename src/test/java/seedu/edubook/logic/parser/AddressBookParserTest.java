@@ -31,8 +31,13 @@ import seedu.edubook.logic.commands.ExitCommand;
 import seedu.edubook.logic.commands.FindCommand;
 import seedu.edubook.logic.commands.HelpCommand;
 import seedu.edubook.logic.commands.ListCommand;
+import seedu.edubook.logic.commands.MetricsCommand;
+import seedu.edubook.logic.commands.RedoCommand;
+import seedu.edubook.logic.commands.StatsCommand;
 import seedu.edubook.logic.commands.UnassignCommand;
+import seedu.edubook.logic.commands.UndoCommand;
 import seedu.edubook.logic.commands.ViewCommand;
+import seedu.edubook.logic.metrics.CommandMetrics;
 import seedu.edubook.logic.parser.exceptions.ParseException;
 import seedu.edubook.model.assignment.AssignmentName;
 import seedu.edubook.model.person.Person;
@@ -121,6 +126,39 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_metrics() throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+        AddressBookParser parserWithMetrics = new AddressBookParser(metrics);
+        assertEquals(new MetricsCommand(metrics), parserWithMetrics.parseCommand(MetricsCommand.COMMAND_WORD));
+        assertEquals(new MetricsCommand(metrics), parserWithMetrics.parseCommand(MetricsCommand.COMMAND_WORD + " 3"));
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        StatsCommand command = (StatsCommand) parser.parseCommand(
+                StatsCommand.COMMAND_WORD + ASSIGNMENT_DESC_HOMEWORK);
+        assertEquals(new StatsCommand(null, new AssignmentName(VALID_ASSIGNMENT_HOMEWORK)), command);
+    }
+
+    @Test
+    public void parseCommand_undoCommandWord_returnsUndoCommand() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand("undo 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redoCommandWord_returnsRedoCommand() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand("redo 1") instanceof RedoCommand);
+    }
+
+    @Test
+    public void getCommandWord() {
+        assertEquals("list", AddressBookParser.getCommandWord("  LiSt   3"));
+        assertEquals("", AddressBookParser.getCommandWord("   "));
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
@@ -1,6 +1,7 @@
 package seedu.edubook.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edubook.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.edubook.testutil.Assert.assertThrows;
@@ -282,6 +283,11 @@ public class ParserUtilTest {
         assertEquals(expectedClass, ParserUtil.parseClass(classWithWhitespace));
     }
 
+    @Test
+    public void parseClass_sameValueTwice_returnsSameInstance() throws Exception {
+        assertSame(ParserUtil.parseClass(VALID_CLASS), ParserUtil.parseClass(WHITESPACE + VALID_CLASS));
+    }
+
     @Test
     public void parseEmail_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseEmail((String) null));
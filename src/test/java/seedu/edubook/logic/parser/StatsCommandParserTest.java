@@ -0,0 +1,73 @@
+package seedu.edubook.logic.parser;
+
+import static seedu.edubook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.edubook.logic.commands.CommandTestUtil.ASSIGNMENT_DESC_HOMEWORK;
+import static seedu.edubook.logic.commands.CommandTestUtil.ASSIGNMENT_DESC_TUTORIAL;
+import static seedu.edubook.logic.commands.CommandTestUtil.CLASS_DESC_AMY;
+import static seedu.edubook.logic.commands.CommandTestUtil.CLASS_DESC_BOB;
+import static seedu.edubook.logic.commands.CommandTestUtil.INVALID_ASSIGNMENT_DESC;
+import static seedu.edubook.logic.commands.CommandTestUtil.INVALID_CLASS_DESC;
+import static seedu.edubook.logic.commands.CommandTestUtil.PREAMBLE_NON_EMPTY;
+import static seedu.edubook.logic.commands.CommandTestUtil.VALID_ASSIGNMENT_HOMEWORK;
+import static seedu.edubook.logic.commands.CommandTestUtil.VALID_CLASS_AMY;
+import static seedu.edubook.logic.parser.CliSyntax.PREFIX_ASSIGNMENT_NAME;
+import static seedu.edubook.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.edubook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.edubook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edubook.logic.Messages;
+import seedu.edubook.logic.commands.StatsCommand;
+import seedu.edubook.model.assignment.AssignmentName;
+import seedu.edubook.model.person.TuitionClass;
+
+public class StatsCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE);
+
+    private final StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_classAndAssignment_success() {
+        assertParseSuccess(parser, CLASS_DESC_AMY + ASSIGNMENT_DESC_HOMEWORK, new StatsCommand(
+                new TuitionClass(VALID_CLASS_AMY), new AssignmentName(VALID_ASSIGNMENT_HOMEWORK)));
+
+        // any order
+        assertParseSuccess(parser, ASSIGNMENT_DESC_HOMEWORK + CLASS_DESC_AMY, new StatsCommand(
+                new TuitionClass(VALID_CLASS_AMY), new AssignmentName(VALID_ASSIGNMENT_HOMEWORK)));
+    }
+
+    @Test
+    public void parse_classOnly_success() {
+        assertParseSuccess(parser, CLASS_DESC_AMY, new StatsCommand(new TuitionClass(VALID_CLASS_AMY), null));
+    }
+
+    @Test
+    public void parse_assignmentOnly_success() {
+        assertParseSuccess(parser, ASSIGNMENT_DESC_HOMEWORK,
+                new StatsCommand(null, new AssignmentName(VALID_ASSIGNMENT_HOMEWORK)));
+    }
+
+    @Test
+    public void parse_missingParts_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, PREAMBLE_NON_EMPTY, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, PREAMBLE_NON_EMPTY + CLASS_DESC_AMY, MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_duplicatePrefixes_failure() {
+        assertParseFailure(parser, CLASS_DESC_AMY + CLASS_DESC_BOB,
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_CLASS));
+        assertParseFailure(parser, ASSIGNMENT_DESC_HOMEWORK + ASSIGNMENT_DESC_TUTORIAL,
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_ASSIGNMENT_NAME));
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, INVALID_CLASS_DESC, TuitionClass.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, CLASS_DESC_AMY + INVALID_ASSIGNMENT_DESC, AssignmentName.MESSAGE_CONSTRAINTS);
+    }
+}
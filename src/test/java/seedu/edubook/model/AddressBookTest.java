@@ -78,6 +78,24 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getModificationCount_countsSuccessfulModificationsOnly() {
+        assertEquals(0, addressBook.getModificationCount());
+
+        addressBook.addPerson(ALICE);
+        assertEquals(1, addressBook.getModificationCount());
+
+        // reads and failed modifications -> unchanged
+        addressBook.hasPerson(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+        assertEquals(1, addressBook.getModificationCount());
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withClass(VALID_CLASS_BOB).build());
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(4, addressBook.getModificationCount());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
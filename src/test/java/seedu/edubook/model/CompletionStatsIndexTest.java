@@ -0,0 +1,133 @@
+package seedu.edubook.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.edubook.model.assignment.AssignmentName;
+import seedu.edubook.model.person.Person;
+import seedu.edubook.model.person.TuitionClass;
+import seedu.edubook.testutil.PersonBuilder;
+
+public class CompletionStatsIndexTest {
+
+    private static final TuitionClass CLASS_A = new TuitionClass("CompletionStatsIndexTest A");
+    private static final TuitionClass CLASS_B = new TuitionClass("CompletionStatsIndexTest B");
+    private static final AssignmentName ESSAY = new AssignmentName("CompletionStatsIndexTest Essay");
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+    private final CompletionStatsIndex index = new CompletionStatsIndex();
+
+    private Person alice;
+    private Person bob;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        alice = new PersonBuilder().withName("Alice").withClass(CLASS_A.value).withAssignments(ESSAY.fullName)
+                .build().withMarkedAssignment(ESSAY);
+        bob = new PersonBuilder().withName("Bob").withClass(CLASS_A.value).withAssignments(ESSAY.fullName).build();
+        index.attachTo(persons);
+    }
+
+    @Test
+    public void add_persons_countsAssignedAndDone() {
+        persons.addAll(alice, bob);
+
+        assertEquals(new CompletionStats(2, 1), index.getStats(CLASS_A, ESSAY));
+        assertEquals(CompletionStats.EMPTY, index.getStats(CLASS_B, ESSAY));
+    }
+
+    @Test
+    public void remove_persons_countsDropToEmpty() {
+        persons.addAll(alice, bob);
+
+        persons.remove(alice);
+        assertEquals(new CompletionStats(1, 0), index.getStats(CLASS_A, ESSAY));
+
+        persons.remove(bob);
+        assertEquals(CompletionStats.EMPTY, index.getStats(CLASS_A, ESSAY));
+        assertTrue(index.getStatsByAssignment(CLASS_A).isEmpty());
+        assertTrue(index.getStatsByClass(ESSAY).isEmpty());
+    }
+
+    @Test
+    public void replace_markedAssignment_updatesDoneCount() throws Exception {
+        persons.addAll(alice, bob);
+
+        persons.set(1, bob.withMarkedAssignment(ESSAY));
+        assertEquals(new CompletionStats(2, 2), index.getStats(CLASS_A, ESSAY));
+    }
+
+    @Test
+    public void replace_personMovedToAnotherClass_movesCounts() {
+        persons.addAll(alice, bob);
+
+        persons.set(0, new PersonBuilder(alice).withClass(CLASS_B.value).build());
+        assertEquals(new CompletionStats(1, 0), index.getStats(CLASS_A, ESSAY));
+        assertEquals(Map.of(CLASS_A, new CompletionStats(1, 0), CLASS_B, new CompletionStats(1, 1)),
+                index.getStatsByClass(ESSAY));
+    }
+
+    @Test
+    public void getStatsByAssignment_differentSpellings_usesEachClassSpelling() {
+        persons.addAll(new PersonBuilder().withName("Carl").withClass(CLASS_A.value)
+                        .withAssignments("completionstatsindextest quiz").build(),
+                new PersonBuilder().withName("Dana").withClass(CLASS_B.value)
+                        .withAssignments("COMPLETIONSTATSINDEXTEST QUIZ").build());
+
+        assertEquals(List.of("completionstatsindextest quiz"), getAssignmentNames(CLASS_A));
+        assertEquals(List.of("COMPLETIONSTATSINDEXTEST QUIZ"), getAssignmentNames(CLASS_B));
+    }
+
+    @Test
+    public void getStatsByAssignment_lastHolderOfSpellingLeaves_usesRemainingSpelling() {
+        Person carl = new PersonBuilder().withName("Carl").withClass(CLASS_A.value)
+                .withAssignments("completionstatsindextest quiz").build();
+        Person dana = new PersonBuilder().withName("Dana").withClass(CLASS_A.value)
+                .withAssignments("COMPLETIONSTATSINDEXTEST QUIZ").build();
+        persons.addAll(carl, dana);
+        assertEquals(List.of("completionstatsindextest quiz"), getAssignmentNames(CLASS_A));
+
+        // a student edited to spell it another way takes the name, as no remaining student spells it as before
+        Person respelledCarl = new PersonBuilder(carl).withAssignments("CompletionStatsIndexTest Quiz").build();
+        persons.set(0, respelledCarl);
+        assertEquals(List.of("CompletionStatsIndexTest Quiz"), getAssignmentNames(CLASS_A));
+
+        persons.remove(respelledCarl);
+        assertEquals(List.of("COMPLETIONSTATSINDEXTEST QUIZ"), getAssignmentNames(CLASS_A));
+        assertEquals(new CompletionStats(1, 0), index.getStats(CLASS_A,
+                new AssignmentName("CompletionStatsIndexTest Quiz")));
+    }
+
+    @Test
+    public void remove_manyAssignments_keepsCountsOfOthers() {
+        String[] assignments = new String[200];
+        for (int i = 0; i < assignments.length; i++) {
+            assignments[i] = "CompletionStatsIndexTest Worksheet " + i;
+        }
+        Person carl = new PersonBuilder().withName("Carl").withClass(CLASS_A.value).withAssignments(assignments)
+                .build();
+        persons.addAll(alice, carl);
+
+        persons.remove(carl);
+        assertEquals(List.of(ESSAY.fullName), getAssignmentNames(CLASS_A));
+        assertEquals(new CompletionStats(1, 1), index.getStats(CLASS_A, ESSAY));
+
+        persons.add(carl);
+        assertEquals(assignments.length + 1, index.getStatsByAssignment(CLASS_A).size());
+    }
+
+    private List<String> getAssignmentNames(TuitionClass tuitionClass) {
+        return index.getStatsByAssignment(tuitionClass).keySet().stream()
+                .map(assignmentName -> assignmentName.fullName)
+                .collect(Collectors.toList());
+    }
+}
@@ -7,16 +7,26 @@ import static seedu.edubook.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.edubook.testutil.Assert.assertThrows;
 import static seedu.edubook.testutil.TypicalPersons.ALICE;
 import static seedu.edubook.testutil.TypicalPersons.BENSON;
+import static seedu.edubook.testutil.TypicalPersons.CARL;
+import static seedu.edubook.testutil.TypicalPersons.DANIEL;
+import static seedu.edubook.testutil.TypicalPersons.ELLE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.edubook.commons.core.GuiSettings;
+import seedu.edubook.logic.commands.exceptions.CommandException;
+import seedu.edubook.model.assignment.Assignment;
+import seedu.edubook.model.assignment.AssignmentName;
+import seedu.edubook.model.person.Person;
 import seedu.edubook.model.person.PersonNameContainsKeywordsPredicate;
+import seedu.edubook.model.person.TuitionClass;
 import seedu.edubook.testutil.AddressBookBuilder;
+import seedu.edubook.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -29,6 +39,18 @@ public class ModelManagerTest {
         assertEquals(new AddressBook(), new AddressBook(modelManager.getAddressBook()));
     }
 
+    @Test
+    public void getAddressBookSnapshot_laterChanges_notReflected() {
+        modelManager.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = modelManager.getAddressBookSnapshot();
+
+        modelManager.addPerson(BENSON);
+        modelManager.deletePerson(ALICE);
+
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -88,6 +110,224 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void findPersonsByNameKeywords_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.findPersonsByNameKeywords(null));
+    }
+
+    @Test
+    public void findPersonsByNameKeywords_afterEdits_returnsCurrentMatches() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(DANIEL);
+
+        // whole words only, ignoring case, without duplicates
+        assertEquals(List.of(BENSON, DANIEL), modelManager.findPersonsByNameKeywords(List.of("meier", "MEIER")));
+        assertEquals(List.of(ALICE, BENSON), modelManager.findPersonsByNameKeywords(List.of("Alice", "Benson")));
+        assertEquals(List.of(), modelManager.findPersonsByNameKeywords(List.of("Mei")));
+
+        // renamed person
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Kurz").build();
+        modelManager.setPerson(BENSON, renamedBenson);
+        assertEquals(List.of(DANIEL), modelManager.findPersonsByNameKeywords(List.of("Meier")));
+        assertEquals(List.of(renamedBenson), modelManager.findPersonsByNameKeywords(List.of("kurz")));
+
+        // edited person keeps its position
+        Person editedAlice = new PersonBuilder(ALICE).withTags("husband").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.deletePerson(DANIEL);
+        assertEquals(List.of(editedAlice, renamedBenson),
+                modelManager.findPersonsByNameKeywords(List.of("Pauline", "Benson")));
+    }
+
+    @Test
+    public void findPersonsByClass_nullClass_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.findPersonsByClass(null));
+    }
+
+    @Test
+    public void findPersonsByClass_noPersonInClass_returnsEmptyList() {
+        modelManager.addPerson(ALICE);
+        assertEquals(List.of(), modelManager.findPersonsByClass(CARL.getTuitionClass()));
+    }
+
+    @Test
+    public void findPersonsByClass_afterEdits_returnsCurrentMembersInOrder() {
+        TuitionClass tuitionClass = CARL.getTuitionClass();
+        modelManager.addPerson(CARL);
+        modelManager.addPerson(DANIEL);
+        modelManager.addPerson(ELLE);
+        assertEquals(List.of(CARL, DANIEL), modelManager.findPersonsByClass(tuitionClass));
+
+        // edited person keeps its position within the class
+        Person editedCarl = new PersonBuilder(CARL).withTags("husband").build();
+        modelManager.setPerson(CARL, editedCarl);
+        assertEquals(List.of(editedCarl, DANIEL), modelManager.findPersonsByClass(tuitionClass));
+
+        // person moved into the class
+        Person movedElle = new PersonBuilder(ELLE).withClass(tuitionClass.value).build();
+        modelManager.setPerson(ELLE, movedElle);
+        assertEquals(List.of(editedCarl, DANIEL, movedElle), modelManager.findPersonsByClass(tuitionClass));
+        assertEquals(List.of(), modelManager.findPersonsByClass(ELLE.getTuitionClass()));
+
+        modelManager.deletePerson(DANIEL);
+        assertEquals(List.of(editedCarl, movedElle), modelManager.findPersonsByClass(tuitionClass));
+
+        // class names are case-insensitive
+        assertEquals(List.of(editedCarl, movedElle),
+                modelManager.findPersonsByClass(new TuitionClass(tuitionClass.value.toLowerCase())));
+    }
+
+    @Test
+    public void findPersonsByClass_personMovedOrRestoredMidRoster_returnsRosterOrder() {
+        TuitionClass tuitionClass = CARL.getTuitionClass();
+        Person movedAlice = new PersonBuilder(ALICE).withClass(tuitionClass.value).build();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(CARL);
+        modelManager.addPerson(DANIEL);
+
+        // person moved into the class ahead of its other members
+        modelManager.setPerson(ALICE, movedAlice);
+        assertEquals(List.of(movedAlice, CARL, DANIEL), modelManager.findPersonsByClass(tuitionClass));
+
+        // person restored to its place in the middle of the roster
+        modelManager.commitAddressBook();
+        modelManager.deletePerson(CARL);
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+        assertEquals(List.of(movedAlice, CARL, DANIEL), modelManager.findPersonsByClass(tuitionClass));
+    }
+
+    @Test
+    public void setPerson_unchangedPerson_noUndoableState() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(), new UserPrefs());
+        long modificationCount = modelManager.getModificationCount();
+
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).build());
+        modelManager.commitAddressBook();
+        assertEquals(modificationCount, modelManager.getModificationCount());
+        assertFalse(modelManager.canUndoAddressBook());
+
+        // a change of case is still an edit
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withName("alice pauline").build());
+        modelManager.commitAddressBook();
+        assertTrue(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void findPersonsByNameKeywords_undoneRenameWhoseNameWasReused_findsRestoredPerson() {
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Zed").build();
+        Person newAlice = new PersonBuilder(BENSON).withName(ALICE.getName().fullName).build();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(CARL);
+        modelManager.commitAddressBook();
+
+        // the undo restores ALICE in place of the rename before removing the newer person with her name
+        modelManager.setPerson(ALICE, renamedAlice);
+        modelManager.addPerson(newAlice);
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+
+        assertEquals(List.of(ALICE), modelManager.findPersonsByNameKeywords(List.of("Alice")));
+        assertEquals(List.of(), modelManager.findPersonsByNameKeywords(List.of("Zed")));
+    }
+
+    @Test
+    public void countPersonsByClass_membersAddedAndRemoved_returnsCount() {
+        TuitionClass tuitionClass = CARL.getTuitionClass();
+        assertEquals(0, modelManager.countPersonsByClass(tuitionClass));
+
+        modelManager.addPerson(CARL);
+        modelManager.addPerson(DANIEL);
+        assertEquals(2, modelManager.countPersonsByClass(tuitionClass));
+
+        modelManager.deletePerson(CARL);
+        assertEquals(1, modelManager.countPersonsByClass(tuitionClass));
+    }
+
+    @Test
+    public void findPersonsByClass_duringBatch_throwsAssertionError() {
+        modelManager.beginBatch();
+        modelManager.addPerson(CARL);
+        assertTrue(modelManager.hasPerson(CARL));
+        assertThrows(AssertionError.class, () -> modelManager.findPersonsByClass(CARL.getTuitionClass()));
+        modelManager.endBatch();
+
+        assertEquals(List.of(CARL), modelManager.findPersonsByClass(CARL.getTuitionClass()));
+    }
+
+    @Test
+    public void findPersonsByClass_afterSetAddressBook_returnsNewMembers() {
+        modelManager.addPerson(CARL);
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(DANIEL).build());
+        assertEquals(List.of(DANIEL), modelManager.findPersonsByClass(CARL.getTuitionClass()));
+    }
+
+    @Test
+    public void findPersonsByAssignmentName_afterEdits_returnsCurrentHolders() throws CommandException {
+        AssignmentName homework = new AssignmentName("Homework 2");
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        assertEquals(List.of(BENSON), modelManager.findPersonsByAssignmentName(homework));
+        assertEquals(1, modelManager.countPersonsWithAssignment(homework));
+
+        Person aliceWithHomework = ALICE.withAddedAssignment(new Assignment(homework));
+        modelManager.setPerson(ALICE, aliceWithHomework);
+        assertEquals(List.of(BENSON, aliceWithHomework), modelManager.findPersonsByAssignmentName(homework));
+        assertEquals(2, modelManager.countPersonsWithAssignment(homework));
+
+        // edited holder keeps its position
+        Person bensonWithoutTutorial = BENSON.withRemovedAssignment(new Assignment(new AssignmentName("Tutorial 1")));
+        modelManager.setPerson(BENSON, bensonWithoutTutorial);
+        assertEquals(List.of(bensonWithoutTutorial, aliceWithHomework),
+                modelManager.findPersonsByAssignmentName(homework));
+        assertEquals(List.of(), modelManager.findPersonsByAssignmentName(new AssignmentName("Tutorial 1")));
+        assertEquals(0, modelManager.countPersonsWithAssignment(new AssignmentName("Tutorial 1")));
+
+        modelManager.deletePerson(bensonWithoutTutorial);
+        assertEquals(List.of(aliceWithHomework), modelManager.findPersonsByAssignmentName(homework));
+
+        modelManager.setAddressBook(new AddressBook());
+        assertEquals(List.of(), modelManager.findPersonsByAssignmentName(homework));
+        assertEquals(0, modelManager.countPersonsWithAssignment(homework));
+    }
+
+    @Test
+    public void getCompletionStats_afterEdits_returnsCurrentCounts() throws CommandException {
+        AssignmentName homework = new AssignmentName("Homework 2");
+        TuitionClass bensonClass = BENSON.getTuitionClass();
+        modelManager.addPerson(BENSON);
+        assertEquals(new CompletionStats(1, 0), modelManager.getCompletionStats(bensonClass, homework));
+
+        // marking updates the done count
+        Person markedBenson = BENSON.withMarkedAssignment(homework);
+        modelManager.setPerson(BENSON, markedBenson);
+        assertEquals(new CompletionStats(1, 1), modelManager.getCompletionStats(bensonClass, homework));
+
+        // a second student in the same class, assigned but not done
+        Person otherStudent = new PersonBuilder().withName("Other Student").withClass(bensonClass.value)
+                .withAssignments("Homework 2").build();
+        modelManager.addPerson(otherStudent);
+        assertEquals(new CompletionStats(2, 1), modelManager.getCompletionStats(bensonClass, homework));
+        assertEquals(List.of(homework, new AssignmentName("Tutorial 1")),
+                List.copyOf(modelManager.getCompletionStatsByAssignment(bensonClass).keySet()));
+
+        // moving a student to another class moves their counts
+        Person movedBenson = new PersonBuilder(markedBenson).withClass("Class 2-B").build();
+        modelManager.setPerson(markedBenson, movedBenson);
+        assertEquals(new CompletionStats(1, 0), modelManager.getCompletionStats(bensonClass, homework));
+        assertEquals(new CompletionStats(1, 1),
+                modelManager.getCompletionStats(movedBenson.getTuitionClass(), homework));
+        assertEquals(2, modelManager.getCompletionStatsByClass(homework).size());
+
+        modelManager.deletePerson(otherStudent);
+        assertEquals(CompletionStats.EMPTY, modelManager.getCompletionStats(bensonClass, homework));
+        assertTrue(modelManager.getCompletionStatsByAssignment(bensonClass).isEmpty());
+
+        modelManager.setAddressBook(new AddressBook());
+        assertTrue(modelManager.getCompletionStatsByClass(homework).isEmpty());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
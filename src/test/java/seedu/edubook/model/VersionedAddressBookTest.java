@@ -0,0 +1,122 @@
+package seedu.edubook.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edubook.testutil.Assert.assertThrows;
+import static seedu.edubook.testutil.TypicalPersons.ALICE;
+import static seedu.edubook.testutil.TypicalPersons.BENSON;
+import static seedu.edubook.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edubook.model.person.Person;
+import seedu.edubook.testutil.AddressBookBuilder;
+import seedu.edubook.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    private final VersionedAddressBook versionedAddressBook =
+            new VersionedAddressBook(new AddressBookBuilder().withPerson(ALICE).build(), 3);
+
+    @Test
+    public void constructor_negativeHistoryDepth_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedAddressBook(new AddressBook(), -1));
+    }
+
+    @Test
+    public void constructor_initialState_nothingToUndoOrRedo() {
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+        assertEquals(1, versionedAddressBook.getStateCount());
+        assertThrows(VersionedAddressBook.NoUndoableStateException.class, versionedAddressBook::undo);
+        assertThrows(VersionedAddressBook.NoRedoableStateException.class, versionedAddressBook::redo);
+    }
+
+    @Test
+    public void commit_unchanged_doesNothing() {
+        versionedAddressBook.commit();
+        assertEquals(1, versionedAddressBook.getStateCount());
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void undoRedo_multipleStates_restoresEachState() {
+        versionedAddressBook.addPerson(BENSON);
+        versionedAddressBook.commit();
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        versionedAddressBook.setPerson(BENSON, editedBenson);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(List.of(ALICE, BENSON), versionedAddressBook.getPersonList());
+        versionedAddressBook.undo();
+        assertEquals(List.of(ALICE), versionedAddressBook.getPersonList());
+        assertFalse(versionedAddressBook.canUndo());
+
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertEquals(List.of(ALICE, editedBenson), versionedAddressBook.getPersonList());
+        assertTrue(versionedAddressBook.hasPerson(editedBenson));
+        assertFalse(versionedAddressBook.canRedo());
+
+        // restoring a state is itself a modification, so that it is saved
+        long modificationCount = versionedAddressBook.getModificationCount();
+        versionedAddressBook.undo();
+        assertTrue(versionedAddressBook.getModificationCount() > modificationCount);
+    }
+
+    @Test
+    public void commit_afterUndo_discardsUndoneStates() {
+        versionedAddressBook.addPerson(BENSON);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        assertTrue(versionedAddressBook.canRedo());
+
+        versionedAddressBook.addPerson(CARL);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canRedo());
+        assertEquals(2, versionedAddressBook.getStateCount());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_commitsThemFirst() {
+        versionedAddressBook.addPerson(BENSON);
+        assertTrue(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+
+        versionedAddressBook.undo();
+        assertEquals(List.of(ALICE), versionedAddressBook.getPersonList());
+        versionedAddressBook.redo();
+        assertEquals(List.of(ALICE, BENSON), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_beyondHistoryDepth_dropsOldestStates() {
+        for (int i = 0; i < 5; i++) {
+            versionedAddressBook.addPerson(new PersonBuilder().withName("Student " + i).build());
+            versionedAddressBook.commit();
+        }
+        assertEquals(4, versionedAddressBook.getStateCount());
+
+        versionedAddressBook.undo();
+        versionedAddressBook.undo();
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.canUndo());
+        // the oldest state kept is the one after the second person was added
+        assertEquals(3, versionedAddressBook.getPersonList().size());
+    }
+
+    @Test
+    public void commit_zeroHistoryDepth_cannotUndo() {
+        VersionedAddressBook withoutHistory = new VersionedAddressBook(new AddressBook(), 0);
+        withoutHistory.addPerson(ALICE);
+        assertFalse(withoutHistory.canUndo());
+
+        withoutHistory.commit();
+        assertFalse(withoutHistory.canUndo());
+        assertEquals(1, withoutHistory.getStateCount());
+    }
+}
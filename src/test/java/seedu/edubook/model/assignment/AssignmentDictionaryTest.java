@@ -0,0 +1,33 @@
+package seedu.edubook.model.assignment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+public class AssignmentDictionaryTest {
+
+    @Test
+    public void findId_unseenName_returnsNotFound() {
+        assertEquals(AssignmentDictionary.NOT_FOUND,
+                AssignmentDictionary.findId(new AssignmentName("AssignmentDictionaryTest Unseen")));
+    }
+
+    @Test
+    public void getId_sameNameInAnyCase_returnsSameId() {
+        AssignmentName name = new AssignmentName("AssignmentDictionaryTest Essay");
+        int id = AssignmentDictionary.getId(name);
+
+        assertEquals(id, AssignmentDictionary.getId(new AssignmentName("assignmentdictionarytest ESSAY")));
+        assertEquals(id, AssignmentDictionary.findId(name));
+        assertSame(name, AssignmentDictionary.getName(id));
+    }
+
+    @Test
+    public void getId_differentNames_returnsDifferentIds() {
+        int firstId = AssignmentDictionary.getId(new AssignmentName("AssignmentDictionaryTest First"));
+        int secondId = AssignmentDictionary.getId(new AssignmentName("AssignmentDictionaryTest Second"));
+        assertNotEquals(firstId, secondId);
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.edubook.model.assignment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edubook.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class AssignmentSetTest {
+
+    private static final AssignmentName HOMEWORK = new AssignmentName("AssignmentSetTest Homework");
+    private static final AssignmentName QUIZ = new AssignmentName("AssignmentSetTest Quiz");
+
+    @Test
+    public void of_assignments_holdsEachWithStatus() {
+        AssignmentSet assignmentSet = AssignmentSet.of(List.of(new Assignment(HOMEWORK, true),
+                new Assignment(QUIZ, false)));
+        int homeworkId = AssignmentDictionary.findId(HOMEWORK);
+        int quizId = AssignmentDictionary.findId(QUIZ);
+
+        assertTrue(assignmentSet.isAssigned(homeworkId));
+        assertTrue(assignmentSet.isDone(homeworkId));
+        assertTrue(assignmentSet.isAssigned(quizId));
+        assertFalse(assignmentSet.isDone(quizId));
+        assertEquals(2, assignmentSet.size());
+        assertEquals(1, assignmentSet.countDone());
+        assertEquals(Set.of(new Assignment(HOMEWORK, true), new Assignment(QUIZ)), assignmentSet.toAssignments());
+    }
+
+    @Test
+    public void isAssigned_unknownId_returnsFalse() {
+        assertFalse(AssignmentSet.EMPTY.isAssigned(AssignmentDictionary.NOT_FOUND));
+        assertFalse(AssignmentSet.EMPTY.isAssigned(1000));
+        assertFalse(AssignmentSet.EMPTY.isDone(1000));
+    }
+
+    @Test
+    public void withAssigned_idBeyondFirstWord_grows() {
+        AssignmentSet assignmentSet = AssignmentSet.EMPTY.withAssigned(3, HOMEWORK, false)
+                .withAssigned(130, QUIZ, true);
+
+        assertTrue(assignmentSet.isAssigned(130));
+        assertTrue(assignmentSet.isDone(130));
+        assertFalse(assignmentSet.isAssigned(64));
+        assertSame(QUIZ, assignmentSet.getName(130));
+        assertThrows(IllegalArgumentException.class, () -> assignmentSet.withAssigned(-1, HOMEWORK, false));
+    }
+
+    @Test
+    public void withRemoved_lastAssignment_equalsEmpty() {
+        AssignmentSet assignmentSet = AssignmentSet.EMPTY.withAssigned(130, HOMEWORK, true).withRemoved(130);
+
+        assertSame(AssignmentSet.EMPTY, assignmentSet);
+        assertTrue(assignmentSet.isEmpty());
+    }
+
+    @Test
+    public void withRemoved_highestAssignment_trimsToEqualSmallerSet() {
+        AssignmentSet small = AssignmentSet.EMPTY.withAssigned(3, HOMEWORK, true);
+        AssignmentSet trimmed = small.withAssigned(130, QUIZ, false).withRemoved(130);
+
+        assertEquals(small, trimmed);
+        assertEquals(small.hashCode(), trimmed.hashCode());
+        assertSame(small, small.withRemoved(5));
+    }
+
+    @Test
+    public void withDone_changesStatusOnly() {
+        AssignmentSet assignmentSet = AssignmentSet.EMPTY.withAssigned(3, HOMEWORK, false);
+        AssignmentSet doneSet = assignmentSet.withDone(3, true);
+
+        assertTrue(doneSet.isDone(3));
+        assertNotEquals(assignmentSet, doneSet);
+        assertEquals(assignmentSet, doneSet.withDone(3, false));
+    }
+
+    @Test
+    public void nextAssigned_visitsEachAssignmentInOrder() {
+        AssignmentSet assignmentSet = AssignmentSet.EMPTY.withAssigned(130, HOMEWORK, false)
+                .withAssigned(0, HOMEWORK, false).withAssigned(63, HOMEWORK, true).withAssigned(64, HOMEWORK, false);
+
+        assertEquals(0, assignmentSet.nextAssigned(0));
+        assertEquals(63, assignmentSet.nextAssigned(1));
+        assertEquals(64, assignmentSet.nextAssigned(64));
+        assertEquals(130, assignmentSet.nextAssigned(65));
+        assertEquals(AssignmentDictionary.NOT_FOUND, assignmentSet.nextAssigned(131));
+        assertEquals(AssignmentDictionary.NOT_FOUND, assignmentSet.nextAssigned(1000));
+    }
+
+    @Test
+    public void getName_differentCasing_keepsEachSetsSpelling() {
+        AssignmentName lowerCase = new AssignmentName("assignmentsettest spelling");
+        AssignmentName titleCase = new AssignmentName("AssignmentSetTest Spelling");
+        AssignmentSet first = AssignmentSet.of(List.of(new Assignment(lowerCase)));
+        AssignmentSet second = AssignmentSet.of(List.of(new Assignment(titleCase)));
+        int id = AssignmentDictionary.findId(titleCase);
+
+        assertSame(lowerCase, first.getName(id));
+        assertSame(titleCase, second.getName(id));
+        assertEquals(first, second);
+        assertSame(titleCase, second.toAssignments().iterator().next().assignmentName);
+    }
+
+    @Test
+    public void withRemoved_middleAssignment_keepsOtherSpellings() {
+        AssignmentSet assignmentSet = AssignmentSet.EMPTY.withAssigned(0, HOMEWORK, false)
+                .withAssigned(70, QUIZ, false).withAssigned(5, QUIZ, true).withRemoved(5);
+
+        assertSame(HOMEWORK, assignmentSet.getName(0));
+        assertSame(QUIZ, assignmentSet.getName(70));
+        assertEquals(2, assignmentSet.size());
+    }
+
+    @Test
+    public void withDone_keepsSpelling() {
+        AssignmentSet assignmentSet = AssignmentSet.EMPTY.withAssigned(3, QUIZ, false).withDone(3, true);
+
+        assertSame(QUIZ, assignmentSet.getName(3));
+    }
+
+    @Test
+    public void toAssignments_modify_throwsUnsupportedOperationException() {
+        Set<Assignment> assignments = AssignmentSet.of(List.of(new Assignment(HOMEWORK, true))).toAssignments();
+
+        assertThrows(UnsupportedOperationException.class, () -> assignments.add(new Assignment(QUIZ)));
+        assertThrows(UnsupportedOperationException.class, () -> assignments.remove(new Assignment(HOMEWORK)));
+        assertTrue(assignments.contains(new Assignment(HOMEWORK)));
+        assertFalse(assignments.contains(new Assignment(QUIZ)));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.edubook.model.assignment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edubook.testutil.Assert.assertThrows;
@@ -38,25 +39,32 @@ public class AssignmentTest {
 
     @Test
     public void unmarkedAssignment_markedSuccessfully() throws AssignmentMarkedException {
-        ASSIGNMENT_TUTORIAL_ONE_TO_MARK.mark();
-        assertTrue(ASSIGNMENT_TUTORIAL_ONE_TO_MARK.isDone());
+        Assignment markedAssignment = ASSIGNMENT_TUTORIAL_ONE_TO_MARK.marked();
+        assertTrue(markedAssignment.isDone());
+        assertEquals(ASSIGNMENT_TUTORIAL_ONE_TO_MARK.assignmentName, markedAssignment.assignmentName);
+
+        // original assignment is unchanged
+        assertFalse(ASSIGNMENT_TUTORIAL_ONE_TO_MARK.isDone());
     }
 
     @Test
     public void markedAssignment_throwsExceptionWhenMarked() throws AssignmentMarkedException {
-        ASSIGNMENT_TUTORIAL_TWO_TO_MARK.mark();
-        assertThrows(AssignmentMarkedException.class, ASSIGNMENT_TUTORIAL_TWO_TO_MARK::mark);
+        Assignment markedAssignment = ASSIGNMENT_TUTORIAL_TWO_TO_MARK.marked();
+        assertThrows(AssignmentMarkedException.class, markedAssignment::marked);
     }
 
     @Test
     public void unmarkedAssignment_throwsExceptionWhenUnmarked() {
-        assertThrows(AssignmentUnmarkedException.class, UNMARKED_ASSIGNMENT_TEST_TO_UNMARK::unmark);
+        assertThrows(AssignmentUnmarkedException.class, UNMARKED_ASSIGNMENT_TEST_TO_UNMARK::unmarked);
     }
 
     @Test
     public void markedAssignment_unmarkedSuccessfully() throws AssignmentUnmarkedException {
-        ASSIGNMENT_TUTORIAL_ONE_TO_UNMARK.unmark();
-        assertTrue(!ASSIGNMENT_TUTORIAL_ONE_TO_UNMARK.isDone());
+        Assignment unmarkedAssignment = ASSIGNMENT_TUTORIAL_ONE_TO_UNMARK.unmarked();
+        assertFalse(unmarkedAssignment.isDone());
+
+        // original assignment is unchanged
+        assertTrue(ASSIGNMENT_TUTORIAL_ONE_TO_UNMARK.isDone());
     }
 
     @Test
@@ -1,5 +1,6 @@
 package seedu.edubook.model.commons;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edubook.testutil.Assert.assertThrows;
@@ -38,6 +39,12 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void getNormalizedName() {
+        assertEquals("peter jack", new Name("Peter   JACK").getNormalizedName());
+        assertEquals(new Name("peter jack").hashCode(), new Name("Peter JACK").hashCode());
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
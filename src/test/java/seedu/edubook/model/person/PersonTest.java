@@ -3,6 +3,8 @@ package seedu.edubook.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edubook.logic.commands.CommandTestUtil.VALID_CLASS_BOB;
 import static seedu.edubook.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -19,7 +21,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.edubook.logic.commands.exceptions.AssignmentAlreadyExistsException;
+import seedu.edubook.logic.commands.exceptions.AssignmentMarkedException;
 import seedu.edubook.logic.commands.exceptions.AssignmentNotFoundException;
+import seedu.edubook.logic.commands.exceptions.AssignmentUnmarkedException;
 import seedu.edubook.logic.commands.exceptions.CommandException;
 import seedu.edubook.logic.commands.exceptions.LabelAlreadyExistsException;
 import seedu.edubook.logic.commands.exceptions.LabelNotFoundException;
@@ -45,6 +49,28 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void getAssignments_modifyAssignments_throwsUnsupportedOperationException() throws CommandException {
+        Person person = new PersonBuilder().build().withAddedAssignment(test);
+        assertThrows(UnsupportedOperationException.class, () -> person.getAssignments().remove(test));
+        assertThrows(UnsupportedOperationException.class, () -> person.getAssignments().add(ASSIGNMENT_HOMEWORK));
+    }
+
+    @Test
+    public void getTags_calledTwice_returnsSameView() throws CommandException {
+        Person person = new PersonBuilder().build().withAddedAssignment(test);
+        assertSame(person.getTags(), person.getTags());
+    }
+
+    @Test
+    public void getAssignments_calledTwice_returnsEqualSets() throws CommandException {
+        Person person = new PersonBuilder().build().withAddedAssignment(test);
+
+        // built from the compact form on each call
+        assertEquals(person.getAssignments(), person.getAssignments());
+        assertSame(person.getAssignmentSet(), person.getAssignmentSet());
+    }
+
     @Test
     public void withAddedAssignment_newAssignment_success() throws AssignmentAlreadyExistsException {
         Person person = new PersonBuilder().build();
@@ -77,6 +103,49 @@ public class PersonTest {
         assertTrue(person.getAssignments().contains(test));
     }
 
+    @Test
+    public void withMarkedAssignment_unmarkedAssignment_returnsNewPerson() throws CommandException {
+        Person person = new PersonBuilder().build().withAddedAssignment(test);
+        Person markedPerson = person.withMarkedAssignment(test.assignmentName);
+
+        assertNotSame(person, markedPerson);
+        assertTrue(markedPerson.getAssignments().stream().allMatch(Assignment::isDone));
+
+        // original person is unchanged
+        assertFalse(person.getAssignments().stream().anyMatch(Assignment::isDone));
+        assertThrows(AssignmentMarkedException.class, () -> markedPerson.withMarkedAssignment(test.assignmentName));
+    }
+
+    @Test
+    public void withUnmarkedAssignment_markedAssignment_returnsNewPerson() throws CommandException {
+        Person markedPerson = new PersonBuilder().build().withAddedAssignment(test)
+                .withMarkedAssignment(test.assignmentName);
+        Person unmarkedPerson = markedPerson.withUnmarkedAssignment(test.assignmentName);
+
+        assertFalse(unmarkedPerson.getAssignments().stream().anyMatch(Assignment::isDone));
+        assertTrue(markedPerson.getAssignments().stream().allMatch(Assignment::isDone));
+        assertThrows(AssignmentUnmarkedException.class, () ->
+                unmarkedPerson.withUnmarkedAssignment(test.assignmentName));
+    }
+
+    @Test
+    public void withMarkedAssignment_thenUnmarked_equalsOriginal() throws CommandException {
+        Person person = new PersonBuilder().build().withAddedAssignment(test);
+        Person markedPerson = person.withMarkedAssignment(test.assignmentName);
+
+        // completion status is part of equality
+        assertNotEquals(person, markedPerson);
+        assertEquals(person, markedPerson.withUnmarkedAssignment(test.assignmentName));
+        assertEquals(person.hashCode(), markedPerson.withUnmarkedAssignment(test.assignmentName).hashCode());
+    }
+
+    @Test
+    public void withMarkedAssignment_missingAssignment_throwsException() {
+        Person person = new PersonBuilder().build();
+        assertThrows(AssignmentNotFoundException.class, () -> person.withMarkedAssignment(test.assignmentName));
+        assertThrows(AssignmentNotFoundException.class, () -> person.withUnmarkedAssignment(test.assignmentName));
+    }
+
     @Test
     public void withRemovedAssignment_nonExistingAssignment_throwsException() {
         Person person = new PersonBuilder().build();
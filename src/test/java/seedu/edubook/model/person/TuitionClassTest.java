@@ -1,5 +1,6 @@
 package seedu.edubook.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edubook.testutil.Assert.assertThrows;
@@ -52,5 +53,13 @@ public class TuitionClassTest {
 
         // different values -> returns false
         assertFalse(tuitionClass.equals(new TuitionClass("Other Valid Class")));
+
+        // different case and spacing -> returns true
+        assertTrue(tuitionClass.equals(new TuitionClass("VALID   class")));
+    }
+
+    @Test
+    public void hashCodeMethod() {
+        assertEquals(new TuitionClass("Valid Class").hashCode(), new TuitionClass("vALID  cLASS").hashCode());
     }
 }
@@ -2,6 +2,7 @@ package seedu.edubook.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edubook.logic.commands.CommandTestUtil.VALID_CLASS_BOB;
 import static seedu.edubook.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -9,14 +10,18 @@ import static seedu.edubook.testutil.Assert.assertThrows;
 import static seedu.edubook.testutil.TypicalPersons.ALICE;
 import static seedu.edubook.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.edubook.model.person.exceptions.DuplicatePersonException;
 import seedu.edubook.model.person.exceptions.PersonNotFoundException;
+import seedu.edubook.model.util.PersistentList;
 import seedu.edubook.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -47,6 +52,42 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentCaseAndSpacingInName_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person aliceWithDifferentName = new PersonBuilder(ALICE)
+                .withName(ALICE.getName().fullName.toUpperCase().replace(" ", "   ")).build();
+        assertTrue(uniquePersonList.contains(aliceWithDifferentName));
+    }
+
+    @Test
+    public void contains_afterPersonReplacedOrRemoved_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+
+        uniquePersonList.remove(BOB);
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void get_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.get(null));
+    }
+
+    @Test
+    public void get_nameNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.get(BOB.getName()));
+    }
+
+    @Test
+    public void get_equivalentName_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(ALICE, uniquePersonList.get(new PersonName(ALICE.getName().fullName.toLowerCase())));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -154,6 +195,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -162,6 +205,114 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void batch_multipleModifications_notifiesListenersOnce() {
+        AtomicInteger notificationCount = new AtomicInteger();
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Person>) change -> notificationCount.incrementAndGet());
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.beginBatch();
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.endBatch();
+        assertEquals(0, notificationCount.get());
+        assertEquals(List.of(BOB), uniquePersonList.asUnmodifiableObservableList());
+
+        uniquePersonList.endBatch();
+        assertEquals(1, notificationCount.get());
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void getSnapshot_laterModifications_snapshotUnchanged() {
+        uniquePersonList.add(ALICE);
+        PersistentList<Person> snapshot = uniquePersonList.getSnapshot();
+
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        assertEquals(List.of(ALICE), snapshot.toList());
+        assertEquals(List.of(BOB), uniquePersonList.getSnapshot().toList());
+    }
+
+    @Test
+    public void restore_snapshot_replacesContents() {
+        uniquePersonList.add(ALICE);
+        PersistentList<Person> snapshot = uniquePersonList.getSnapshot();
+        uniquePersonList.setPerson(ALICE, BOB);
+
+        uniquePersonList.restore(snapshot);
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(BOB));
+        assertSame(snapshot, uniquePersonList.getSnapshot());
+    }
+
+    @Test
+    public void restore_afterOneEdit_notifiesOnlyEditedPerson() {
+        List<Person> persons = getNumberedPersons(50);
+        uniquePersonList.setPersons(persons);
+        PersistentList<Person> snapshot = uniquePersonList.getSnapshot();
+        Person editedPerson = new PersonBuilder(persons.get(20)).withPhone("91234567").build();
+        uniquePersonList.setPerson(persons.get(20), editedPerson);
+        List<Person> removed = new ArrayList<>();
+        List<Person> added = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+
+        uniquePersonList.restore(snapshot);
+        assertEquals(List.of(editedPerson), removed);
+        assertEquals(List.of(persons.get(20)), added);
+        assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void restore_afterAddsAndRemoves_restoresContentsAndNames() {
+        List<Person> persons = getNumberedPersons(50);
+        uniquePersonList.setPersons(persons);
+        PersistentList<Person> snapshot = uniquePersonList.getSnapshot();
+        uniquePersonList.remove(persons.get(3));
+        uniquePersonList.remove(persons.get(30));
+        uniquePersonList.setPerson(persons.get(10), ALICE);
+        uniquePersonList.add(BOB);
+        List<Person> removed = new ArrayList<>();
+        List<Person> added = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+
+        uniquePersonList.restore(snapshot);
+        assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(2, removed.size());
+        assertEquals(3, added.size());
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(BOB));
+        assertSame(persons.get(30), uniquePersonList.get(persons.get(30).getName()));
+    }
+
+    @Test
+    public void restore_reorderedPersons_restoresOrder() {
+        List<Person> persons = getNumberedPersons(10);
+        uniquePersonList.setPersons(persons);
+        PersistentList<Person> snapshot = uniquePersonList.getSnapshot();
+        List<Person> reversed = new ArrayList<>(persons);
+        Collections.reverse(reversed);
+        uniquePersonList.setPersons(reversed);
+
+        uniquePersonList.restore(snapshot);
+        assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
+        assertSame(snapshot, uniquePersonList.getSnapshot());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -172,4 +323,13 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    private static List<Person> getNumberedPersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Student " + i).withPhone(String.valueOf(90000000 + i))
+                    .build());
+        }
+        return persons;
+    }
 }
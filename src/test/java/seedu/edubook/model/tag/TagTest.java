@@ -1,5 +1,8 @@
 package seedu.edubook.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edubook.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -23,4 +26,29 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void equals() {
+        Tag tag = new Tag("Top Student");
+
+        // same values -> returns true
+        assertTrue(tag.equals(new Tag("Top Student")));
+
+        // different case and spacing -> returns true
+        assertTrue(tag.equals(new Tag("top  STUDENT")));
+
+        // same object -> returns true
+        assertTrue(tag.equals(tag));
+
+        // null -> returns false
+        assertFalse(tag.equals(null));
+
+        // different values -> returns false
+        assertFalse(tag.equals(new Tag("Weak Student")));
+    }
+
+    @Test
+    public void hashCodeMethod() {
+        assertEquals(new Tag("Top Student").hashCode(), new Tag("top  STUDENT").hashCode());
+    }
+
 }
@@ -0,0 +1,158 @@
+package seedu.edubook.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edubook.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_returnsSharedEmptyList() {
+        assertTrue(PersistentList.empty().isEmpty());
+        assertSame(PersistentList.empty(), PersistentList.of(List.of()));
+        assertEquals(List.of(), PersistentList.empty().toList());
+    }
+
+    @Test
+    public void of_elements_keepsOrder() {
+        PersistentList<String> list = PersistentList.of(List.of("a", "b", "c", "d", "e"));
+        assertEquals(5, list.size());
+        assertEquals("a", list.get(0));
+        assertEquals("c", list.get(2));
+        assertEquals("e", list.get(4));
+        assertEquals(List.of("a", "b", "c", "d", "e"), list.toList());
+    }
+
+    @Test
+    public void modifications_leaveOriginalUnchanged() {
+        PersistentList<String> original = PersistentList.of(List.of("a", "b", "c"));
+
+        assertEquals(List.of("a", "b", "c", "d"), original.plus("d").toList());
+        assertEquals(List.of("a", "x", "c"), original.with(1, "x").toList());
+        assertEquals(List.of("a", "c"), original.minus(1).toList());
+        assertEquals(List.of("a", "b", "c"), original.toList());
+    }
+
+    @Test
+    public void invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(-1, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().minus(0));
+    }
+
+    @Test
+    public void nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.empty().plus(null));
+    }
+
+    @Test
+    public void randomModifications_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int choice = random.nextInt(4);
+            if (expected.isEmpty() || choice <= 1) {
+                expected.add(i);
+                actual = actual.plus(i);
+            } else if (choice == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.with(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            }
+
+            if (i % 500 == 0) {
+                versions.add(actual);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, actual.toList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+        // earlier versions are unaffected by later modifications
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i).toList());
+        }
+    }
+
+    @Test
+    public void commonPrefixAndSuffixLength_versions_matchElementByElementComparison() {
+        Random random = new Random(2103);
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            list = list.plus(i);
+        }
+        versions.add(list);
+        for (int i = 0; i < 50; i++) {
+            int index = random.nextInt(list.size());
+            int choice = random.nextInt(3);
+            if (choice == 0) {
+                list = list.with(index, list.get(index) + 1);
+            } else if (choice == 1) {
+                list = list.minus(index);
+            } else {
+                list = list.plus(-i);
+            }
+            versions.add(list);
+        }
+
+        for (PersistentList<Integer> first : versions) {
+            for (PersistentList<Integer> second : versions) {
+                List<Integer> firstElements = first.toList();
+                List<Integer> secondElements = second.toList();
+                int minSize = Math.min(firstElements.size(), secondElements.size());
+                int prefixLength = 0;
+                while (prefixLength < minSize
+                        && firstElements.get(prefixLength) == secondElements.get(prefixLength)) {
+                    prefixLength++;
+                }
+                int suffixLength = 0;
+                while (suffixLength < minSize && firstElements.get(firstElements.size() - 1 - suffixLength)
+                        == secondElements.get(secondElements.size() - 1 - suffixLength)) {
+                    suffixLength++;
+                }
+                assertEquals(prefixLength, first.commonPrefixLength(second));
+                assertEquals(suffixLength, first.commonSuffixLength(second));
+            }
+        }
+    }
+
+    @Test
+    public void commonPrefixLength_equalElementsNotSame_stopsAtFirstNotSame() {
+        PersistentList<String> list = PersistentList.of(List.of("a", "b"));
+        PersistentList<String> copy = PersistentList.of(List.of("a", new String("b")));
+
+        assertEquals(1, list.commonPrefixLength(copy));
+        assertEquals(0, list.commonSuffixLength(copy));
+        assertEquals(0, list.commonPrefixLength(PersistentList.empty()));
+    }
+
+    @Test
+    public void equals() {
+        PersistentList<String> list = PersistentList.of(List.of("a", "b"));
+
+        assertTrue(list.equals(PersistentList.<String>empty().plus("a").plus("b")));
+        assertFalse(list.equals(list.minus(0)));
+        assertFalse(list.equals(null));
+        assertEquals(list.hashCode(), List.of("a", "b").hashCode());
+    }
+}
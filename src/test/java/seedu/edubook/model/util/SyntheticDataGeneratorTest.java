@@ -0,0 +1,92 @@
+package seedu.edubook.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edubook.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.edubook.model.AddressBook;
+import seedu.edubook.model.ReadOnlyAddressBook;
+import seedu.edubook.model.person.Person;
+import seedu.edubook.model.person.TuitionClass;
+import seedu.edubook.storage.JsonAddressBookStorage;
+
+public class SyntheticDataGeneratorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void withStudentCount_negative_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator().withStudentCount(-1));
+    }
+
+    @Test
+    public void withTags_tagsWithoutAnyTag_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator().withTags(0, 1));
+    }
+
+    @Test
+    public void generate_sameSeed_generatesSameAddressBook() {
+        AddressBook first = new SyntheticDataGenerator(7).withStudentCount(200).generate();
+        AddressBook second = new SyntheticDataGenerator(7).withStudentCount(200).generate();
+        assertEquals(200, first.getPersonList().size());
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void generate_differentSeed_generatesDifferentAddressBook() {
+        AddressBook first = new SyntheticDataGenerator(7).withStudentCount(200).generate();
+        AddressBook second = new SyntheticDataGenerator(8).withStudentCount(200).generate();
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    public void generate_withinLimits() {
+        AddressBook addressBook = new SyntheticDataGenerator()
+                .withStudentCount(500)
+                .withClassCount(5)
+                .withTags(3, 2)
+                .withAssignments(4, 3, 1)
+                .generate();
+
+        for (Person person : addressBook.getPersonList()) {
+            assertTrue(person.getTags().size() <= 2);
+            assertTrue(person.getAssignments().size() <= 3);
+            assertTrue(person.getAssignments().stream().allMatch(assignment -> assignment.isDone()));
+        }
+        assertEquals(5, countByClass(addressBook).size());
+    }
+
+    @Test
+    public void generate_skewed_firstClassIsLargest() {
+        AddressBook addressBook = new SyntheticDataGenerator().withStudentCount(2000).withClassCount(10)
+                .withSkew(1.5).generate();
+        Map<TuitionClass, Long> classSizes = countByClass(addressBook);
+        long firstClassSize = classSizes.get(new TuitionClass("Class 1"));
+        assertTrue(classSizes.values().stream().allMatch(size -> size <= firstClassSize));
+        assertTrue(firstClassSize > 2000 / 10 * 2);
+    }
+
+    @Test
+    public void generateTo_savesReadableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("roster.json");
+        SyntheticDataGenerator generator = new SyntheticDataGenerator().withStudentCount(100);
+        generator.generateTo(filePath);
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(generator.generate(), new AddressBook(readBack));
+    }
+
+    private static Map<TuitionClass, Long> countByClass(AddressBook addressBook) {
+        return addressBook.getPersonList().stream()
+                .collect(Collectors.groupingBy(Person::getTuitionClass, Collectors.counting()));
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.edubook.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.edubook.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edubook.model.person.TuitionClass;
+
+public class ValuePoolTest {
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ValuePool<>("classes", TuitionClass::new, 0));
+    }
+
+    @Test
+    public void intern_sameText_returnsSameInstance() {
+        ValuePool<TuitionClass> pool = new ValuePool<>("classes", TuitionClass::new, 10);
+        TuitionClass first = pool.intern("Class 1-A");
+
+        assertSame(first, pool.intern("Class 1-A"));
+        assertEquals(1, pool.size());
+        assertEquals(1, pool.getHitCount());
+        assertEquals(1, pool.getMissCount());
+        assertEquals(0.5, pool.getHitRate());
+    }
+
+    @Test
+    public void intern_differentCase_keepsEachCase() {
+        ValuePool<TuitionClass> pool = new ValuePool<>("classes", TuitionClass::new, 10);
+        TuitionClass lowerCase = pool.intern("class 1-a");
+        TuitionClass upperCase = pool.intern("CLASS 1-A");
+
+        // equal values, but each is shown as entered
+        assertEquals(lowerCase, upperCase);
+        assertNotSame(lowerCase, upperCase);
+        assertEquals("CLASS 1-A", upperCase.value);
+    }
+
+    @Test
+    public void intern_fullPool_createsUnpooledValue() {
+        ValuePool<TuitionClass> pool = new ValuePool<>("classes", TuitionClass::new, 1);
+        pool.intern("Class 1-A");
+        TuitionClass unpooled = pool.intern("Class 1-B");
+
+        assertEquals(new TuitionClass("Class 1-B"), unpooled);
+        assertNotSame(unpooled, pool.intern("Class 1-B"));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void intern_invalidText_throwsIllegalArgumentException() {
+        ValuePool<TuitionClass> pool = new ValuePool<>("classes", TuitionClass::new, 10);
+        assertThrows(IllegalArgumentException.class, () -> pool.intern(" "));
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void clear_resetsPoolAndCounts() {
+        ValuePool<TuitionClass> pool = new ValuePool<>("classes", TuitionClass::new, 10);
+        TuitionClass first = pool.intern("Class 1-A");
+        pool.intern("Class 1-A");
+        pool.clear();
+
+        assertEquals(0, pool.size());
+        assertEquals(0, pool.getHitRate());
+        assertNotSame(first, pool.intern("Class 1-A"));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ValuePool<TuitionClass> pool = new ValuePool<>("classes", TuitionClass::new, 10);
+        pool.intern("Class 1-A");
+        pool.intern("Class 1-A");
+        assertEquals("classes: 1 pooled, 50.0% hits (1 / 2)", pool.toString());
+    }
+}
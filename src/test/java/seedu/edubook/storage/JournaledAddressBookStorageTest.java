@@ -0,0 +1,236 @@
+package seedu.edubook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edubook.testutil.Assert.assertThrows;
+import static seedu.edubook.testutil.TypicalPersons.ALICE;
+import static seedu.edubook.testutil.TypicalPersons.BENSON;
+import static seedu.edubook.testutil.TypicalPersons.HOON;
+import static seedu.edubook.testutil.TypicalPersons.IDA;
+import static seedu.edubook.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.edubook.commons.exceptions.DataLoadingException;
+import seedu.edubook.commons.util.FileUtil;
+import seedu.edubook.model.AddressBook;
+import seedu.edubook.model.VersionedAddressBook;
+import seedu.edubook.model.person.Person;
+import seedu.edubook.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new JournaledAddressBookStorage(testFolder.resolve("addressBook.json"), 0));
+    }
+
+    @Test
+    public void saveAddressBook_notTracking_savesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(JsonAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_trackedChanges_appendsToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalFilePath = JsonAddressBookStorage.getJournalFilePath(filePath);
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.trackChanges(addressBook.getPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(BENSON);
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(addressBook);
+
+        // snapshot is untouched, changes are in the journal
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+        // a header followed by one entry per change
+        assertEquals(4, Files.readAllLines(journalFilePath).size());
+        assertEquals(addressBook, new JournaledAddressBookStorage(filePath, 10).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_undoneEdit_appendsOneEntry() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalFilePath = JsonAddressBookStorage.getJournalFilePath(filePath);
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+        VersionedAddressBook addressBook = new VersionedAddressBook(storage.readAddressBook().get(),
+                VersionedAddressBook.DEFAULT_HISTORY_DEPTH);
+        storage.trackChanges(addressBook.getPersonList());
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("91234567").build());
+        addressBook.commit();
+        storage.saveAddressBook(addressBook);
+        addressBook.undo();
+        storage.saveAddressBook(addressBook);
+
+        // the undo is journaled as a put of the one person it changed, rather than of every person
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+        assertEquals(getTypicalAddressBook(), new JournaledAddressBookStorage(filePath, 10).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_undoneRenameWhoseNameWasReused_keepsRestoredPerson() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+        VersionedAddressBook addressBook = new VersionedAddressBook(storage.readAddressBook().get(),
+                VersionedAddressBook.DEFAULT_HISTORY_DEPTH);
+        storage.trackChanges(addressBook.getPersonList());
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withName("Zed").build());
+        addressBook.addPerson(new PersonBuilder(HOON).withName(ALICE.getName().fullName).build());
+        addressBook.commit();
+        storage.saveAddressBook(addressBook);
+        addressBook.undo();
+        storage.saveAddressBook(addressBook);
+
+        // the journal is keyed by name, so a restored person is replayed at the end of the list
+        assertEquals(new HashSet<>(getTypicalAddressBook().getPersonList()),
+                new HashSet<>(new JournaledAddressBookStorage(filePath, 10).readAddressBook().get().getPersonList()));
+    }
+
+    @Test
+    public void saveAddressBook_appendFails_nextSaveKeepsChange() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalFilePath = JsonAddressBookStorage.getJournalFilePath(filePath);
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.trackChanges(addressBook.getPersonList());
+
+        // a directory in place of the journal makes the append fail
+        Files.createDirectory(journalFilePath);
+        addressBook.addPerson(HOON);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(addressBook));
+        Files.delete(journalFilePath);
+
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new JournaledAddressBookStorage(filePath, 10).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_noBaselineOnDisk_savesSnapshotFirst() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.trackChanges(addressBook.getPersonList());
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new JournaledAddressBookStorage(filePath, 10).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_thresholdReached_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 2);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.trackChanges(addressBook.getPersonList());
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(JsonAddressBookStorage.getJournalFilePath(filePath)));
+
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(JsonAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_ignoresJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalFilePath = JsonAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook addressBook = journalRemovalOfAlice(filePath);
+        List<String> staleJournal = Files.readAllLines(journalFilePath);
+
+        // a crash after the next snapshot is written but before the journal is deleted leaves the old journal behind
+        addressBook.addPerson(ALICE);
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        Files.write(journalFilePath, staleJournal);
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(addressBook, readBack);
+
+        // the next save writes a full snapshot, and starts a new journal on top of it
+        storage.trackChanges(readBack.getPersonList());
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack);
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(readBack, new JournaledAddressBookStorage(filePath, 10).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignoresEntry() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook expected = journalRemovalOfAlice(filePath);
+
+        FileUtil.appendToFile(JsonAddressBookStorage.getJournalFilePath(filePath), "{\"operation\":\"put\",\"per");
+
+        assertEquals(expected, new JournaledAddressBookStorage(filePath, 10).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_invalidEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        journalRemovalOfAlice(filePath);
+        Files.write(JsonAddressBookStorage.getJournalFilePath(filePath),
+                List.of("{\"operation\":\"rename\"}", "{\"operation\":\"delete\",\"name\":\"Benson Meier\"}"),
+                StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () ->
+                new JournaledAddressBookStorage(filePath, 10).readAddressBook());
+    }
+
+    /**
+     * Saves the typical address book to {@code filePath} as a snapshot, then journals the removal of ALICE.
+     *
+     * @return the address book after the removal.
+     */
+    private static AddressBook journalRemovalOfAlice(Path filePath) throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.trackChanges(addressBook.getPersonList());
+
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        return addressBook;
+    }
+}
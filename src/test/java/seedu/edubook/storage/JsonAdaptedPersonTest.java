@@ -16,9 +16,11 @@ import seedu.edubook.commons.exceptions.IllegalValueException;
 import seedu.edubook.model.commons.Name;
 import seedu.edubook.model.label.Label;
 import seedu.edubook.model.person.Email;
+import seedu.edubook.model.person.Person;
 import seedu.edubook.model.person.PersonName;
 import seedu.edubook.model.person.Phone;
 import seedu.edubook.model.person.TuitionClass;
+import seedu.edubook.testutil.PersonBuilder;
 
 public class JsonAdaptedPersonTest {
     private static final String INVALID_NAME = "R@chel";
@@ -60,6 +62,15 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_sameAssignmentInDifferentCase_keepsEachSpelling() throws Exception {
+        Person lowerCase = new PersonBuilder(BENSON).withAssignments("tutorial 6").build();
+        Person titleCase = new PersonBuilder(DANIEL).withAssignments("Tutorial 6").build();
+
+        assertEquals(List.of("tutorial 6"), getAssignmentNames(new JsonAdaptedPerson(lowerCase).toModelType()));
+        assertEquals(List.of("Tutorial 6"), getAssignmentNames(new JsonAdaptedPerson(titleCase).toModelType()));
+    }
+
     @Test
     public void toModelType_nullTags_returnsPerson() throws Exception {
         JsonAdaptedPerson person = new JsonAdaptedPerson(DANIEL);
@@ -229,4 +240,10 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    private static List<String> getAssignmentNames(Person person) {
+        return person.getAssignments().stream()
+                .map(assignment -> assignment.assignmentName.fullName)
+                .collect(Collectors.toList());
+    }
+
 }
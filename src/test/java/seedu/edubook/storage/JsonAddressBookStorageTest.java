@@ -2,6 +2,7 @@ package seedu.edubook.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edubook.testutil.Assert.assertThrows;
 import static seedu.edubook.testutil.TypicalPersons.ALICE;
 import static seedu.edubook.testutil.TypicalPersons.HOON;
@@ -9,13 +10,18 @@ import static seedu.edubook.testutil.TypicalPersons.IDA;
 import static seedu.edubook.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.edubook.commons.core.DurabilityPolicy;
 import seedu.edubook.commons.exceptions.DataLoadingException;
+import seedu.edubook.commons.util.FileUtil;
+import seedu.edubook.commons.util.JsonUtil;
 import seedu.edubook.model.AddressBook;
 import seedu.edubook.model.ReadOnlyAddressBook;
 
@@ -65,6 +71,32 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_fieldsOtherThanPersons_ignored() throws Exception {
+        Path filePath = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "typicalPersonsAddressBook.json");
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwDataLoadingException() {
+        Path filePath = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "duplicatePersonAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_matchesSerializableFormat() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(filePath,
+                JsonSerializableAddressBook.class).get();
+        assertEquals(original, dataFromFile.toModelType());
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -91,6 +123,49 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_countsBytesWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        assertEquals(0, jsonAddressBookStorage.getBytesWritten());
+
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        long firstSaveSize = Files.size(filePath);
+        assertEquals(firstSaveSize, jsonAddressBookStorage.getBytesWritten());
+
+        jsonAddressBookStorage.saveAddressBook(new AddressBook());
+        assertEquals(firstSaveSize + Files.size(filePath), jsonAddressBookStorage.getBytesWritten());
+    }
+
+    @Test
+    public void saveAddressBook_withBackups_keepsPreviousVersions() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, DurabilityPolicy.FILE, 2);
+        assertTrue(jsonAddressBookStorage.getBackupFilePaths().isEmpty());
+
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertTrue(jsonAddressBookStorage.getBackupFilePaths().isEmpty());
+
+        AddressBook modified = new AddressBook(original);
+        modified.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(modified);
+        modified.addPerson(IDA);
+        jsonAddressBookStorage.saveAddressBook(modified);
+
+        List<Path> backupFilePaths = jsonAddressBookStorage.getBackupFilePaths();
+        assertEquals(List.of(FileUtil.getBackupFilePath(filePath, 1), FileUtil.getBackupFilePath(filePath, 2)),
+                backupFilePaths);
+        assertEquals(modified, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook(backupFilePaths.get(1)).get()));
+    }
+
+    @Test
+    public void constructor_negativeBackupCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JsonAddressBookStorage(
+                testFolder.resolve("TempAddressBook.json"), DurabilityPolicy.FILE, -1));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));